@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.cache;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.param.auth.repository.UserRepository;
+import org.param.auth.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 11:18:40 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Bloom filter over registered emails (normalized), so that lookups for unknown addresses can be
+ * answered without a database round trip. A false answer from mightExist is definite; true only
+ * means the database has to be asked.
+ *
+ * The filter is built by streaming the users table on a scheduler thread and rebuilt
+ * periodically, since deletes and email changes can only be dropped by a rebuild. Until the
+ * first build completes every email is reported as possibly existing. Registrations that land
+ * while a rebuild is streaming are added to both the live and the in-progress filter.
+ *
+ * The filter is per instance and only sees registrations made here until the next rebuild, so a
+ * miss is definite for this instance's view only. Use it where a wrong miss is caught later (the
+ * unique email constraint on register), never to decide that a user does not exist.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailExistenceFilter {
+
+	private final UserRepository userRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auth.email-filter.enabled:true}")
+	private boolean enabled;
+
+	@Value("${auth.email-filter.expected-insertions:1000000}")
+	private long expectedInsertions;
+
+	@Value("${auth.email-filter.false-positive-probability:0.01}")
+	private double falsePositiveProbability;
+
+	private volatile BloomFilter current;
+	private volatile BloomFilter building;
+
+	private Counter definiteMisses;
+	private Counter possibleHits;
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		this.definiteMisses = Counter.builder("auth.email.filter.checks")
+									 .tag("result", "miss")
+									 .register(meterRegistry);
+
+		this.possibleHits = Counter.builder("auth.email.filter.checks")
+								   .tag("result", "maybe")
+								   .register(meterRegistry);
+	}
+
+	// @formatter:on
+
+	public boolean mightExist(String email) {
+		BloomFilter filter = current;
+		if (!enabled || filter == null || email == null) {
+			return true;
+		}
+
+		if (filter.mightContain(UserLookupCache.normalize(email))) {
+			possibleHits.increment();
+			return true;
+		}
+
+		definiteMisses.increment();
+		return false;
+	}
+
+	/**
+	 * Records a newly registered email. Call after the insert has committed.
+	 */
+	public void add(String email) {
+		String key = UserLookupCache.normalize(email);
+
+		BloomFilter filter = current;
+		if (filter != null) {
+			filter.put(key);
+		}
+
+		// A rebuild that started before the commit may have missed the row
+		BloomFilter inProgress = building;
+		if (inProgress != null) {
+			inProgress.put(key);
+		}
+	}
+
+	@Scheduled(initialDelayString = "${auth.email-filter.initial-delay-ms:0}",
+			fixedDelayString = "${auth.email-filter.rebuild-interval-ms:3600000}")
+	public synchronized void rebuild() {
+		if (!enabled) {
+			return;
+		}
+
+		long start = System.nanoTime();
+		BloomFilter fresh = BloomFilter.create(expectedInsertions, falsePositiveProbability);
+		building = fresh;
+
+		try {
+			TransactionTemplate template = new TransactionTemplate(transactionManager);
+			template.setReadOnly(true);
+
+			Long count = template.execute(status -> {
+				long loaded = 0;
+				try (Stream<String> emails = userRepository.streamAllEmails()) {
+					Iterator<String> iterator = emails.iterator();
+					while (iterator.hasNext()) {
+						fresh.put(UserLookupCache.normalize(iterator.next()));
+						loaded++;
+					}
+				}
+				return loaded;
+			});
+
+			current = fresh;
+			log.info("Email existence filter rebuilt with {} entries ({} bits, {} hashes) in {} ms", count,
+					fresh.bitSize(), fresh.hashCount(), (System.nanoTime() - start) / 1_000_000);
+
+			if (count != null && count > expectedInsertions) {
+				log.warn("Email existence filter holds {} entries, above the expected {}; false positives will rise",
+						count, expectedInsertions);
+			}
+		} catch (RuntimeException e) {
+			// Keep answering from the previous filter (or "maybe" before the first build)
+			log.error("Failed to rebuild email existence filter", e);
+		} finally {
+			building = null;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.param.auth.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 10:21:53 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Bounded TTL cache of user snapshots keyed by normalized email, in front of
+ * UserRepository.findByEmail and its EAGER roles fetch. Unknown emails are not cached.
+ * Only the key is normalized: stored emails are kept as registered and every query uses the
+ * address as given, so the key folds case the way the users table's collation already does.
+ *
+ * Invalidation is local to this instance: a write made elsewhere is seen here only after
+ * ttl-seconds. Snapshots carry no password hash; anything that authenticates reads the current
+ * hash with UserRepository.findPasswordHashByEmail.
+ *
+ * Every write to a user must be followed by invalidate(email) once committed. A lookup that
+ * raced with such a write drops what it just cached (see writeCount), so a stale snapshot
+ * cannot outlive the invalidation.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLookupCache {
+
+	private final UserRepository userRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auth.user-cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${auth.user-cache.max-size:50000}")
+	private long maxSize;
+
+	@Value("${auth.user-cache.ttl-seconds:300}")
+	private long ttlSeconds;
+
+	// Bumped before each invalidation so in-flight loads can tell they may have read old data
+	private final AtomicLong writeCount = new AtomicLong();
+
+	private Ticker ticker = Ticker.systemTicker();
+
+	private Cache<String, UserSnapshot> cache;
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		this.cache = Caffeine.newBuilder()
+							 .maximumSize(maxSize)
+							 .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+							 .ticker(ticker)
+							 .recordStats()
+							 .build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+	}
+
+	public Optional<UserSnapshot> findByEmail(String email) {
+		if (email == null) {
+			return Optional.empty();
+		}
+
+		String key = normalize(email);
+		if (!enabled) {
+			return load(email);
+		}
+
+		UserSnapshot cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		long writesBeforeLoad = writeCount.get();
+		Optional<UserSnapshot> loaded = load(email);
+
+		loaded.ifPresent(snapshot -> {
+			cache.put(key, snapshot);
+			if (writeCount.get() != writesBeforeLoad) {
+				cache.invalidate(key);
+			}
+		});
+		return loaded;
+	}
+
+	public void invalidate(String email) {
+		if (email == null) {
+			return;
+		}
+		writeCount.incrementAndGet();
+		cache.invalidate(normalize(email));
+	}
+
+	public static String normalize(String email) {
+		return email.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private Optional<UserSnapshot> load(String email) {
+		return userRepository.findByEmail(email).map(UserSnapshot::of);
+	}
+
+	// @formatter:on
+}
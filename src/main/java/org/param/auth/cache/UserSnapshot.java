@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.cache;
+
+import java.util.Set;
+
+import org.param.auth.model.User;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 10:14:26 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Detached, immutable copy of what the login and refresh paths need from a user row. The password
+ * hash is deliberately left out: it is always read fresh, so it has no business in a heap cache.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UserSnapshot {
+
+	private final long id;
+
+	private final String email;
+
+	private final Set<String> roles;
+
+	private final boolean verified;
+
+	public static UserSnapshot of(User user) {
+		return new UserSnapshot(user.getId(), user.getEmail(),
+				user.getRoles() == null ? Set.of() : Set.copyOf(user.getRoles()), user.isVerified());
+	}
+}
@@ -15,14 +15,22 @@
  */
 package org.param.auth.config;
 
+import org.param.auth.security.AdaptiveBCryptPasswordEncoder;
+import org.param.auth.security.BCryptCostCalibrator;
+import org.param.auth.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Author: PARAMESHWARAN PV
@@ -36,9 +44,42 @@ public class AuthServiceSecurityConfig {
 
 	//@formatter:off
 	
+	@Value("${security.password.executor.threads:0}")
+	private int hashingThreads;
+
+	@Value("${security.password.executor.queue-capacity:64}")
+	private int hashingQueueCapacity;
+
+	@Value("${security.password.executor.wait-timeout-ms:5000}")
+	private long hashingWaitTimeoutMs;
+
+	// Fixed BCrypt cost; 0 calibrates against target-ms on this hardware at startup
+	@Value("${security.password.bcrypt.strength:0}")
+	private int bcryptStrength;
+
+	@Value("${security.password.bcrypt.target-ms:250}")
+	private long bcryptTargetMs;
+
+	@Value("${security.password.bcrypt.min-strength:10}")
+	private int bcryptMinStrength;
+
+	@Value("${security.password.bcrypt.max-strength:14}")
+	private int bcryptMaxStrength;
+
+	// Actuator runs on its own port (management.server.port); -1 when it shares the API port
+	@Value("${management.server.port:-1}")
+	private int managementPort;
+
+	// BCrypt runs on its own CPU-sized pool; overflow is rejected with 503 instead of queueing on servlet threads
 	@Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int strength = bcryptStrength > 0 ? bcryptStrength
+                                          : BCryptCostCalibrator.calibrate(bcryptTargetMs, bcryptMinStrength, bcryptMaxStrength);
+        Gauge.builder("auth.password.bcrypt.strength", () -> strength).register(meterRegistry);
+
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new AdaptiveBCryptPasswordEncoder(strength), threads, hashingQueueCapacity,
+                                          hashingWaitTimeoutMs, meterRegistry);
     }
 	
     // No custom UserDetailsService here because auth service itself handles user lookup in service layer
@@ -49,6 +90,8 @@ public class AuthServiceSecurityConfig {
         http.csrf(csrf -> csrf.disable()) // CSRF protection disabled for stateless REST
             .authorizeHttpRequests(
 				authorize -> authorize.requestMatchers("/service/v1.0/auth/**")
+				                      .permitAll()
+				                      .requestMatchers(onManagementPort(EndpointRequest.to("health", "info", "prometheus")))
 				                      .permitAll()
 				                      .anyRequest()
 				                      .authenticated())
@@ -58,6 +101,11 @@ public class AuthServiceSecurityConfig {
 		return http.build();
     }
 
+    // Open only when reached on the management port, never through the public API port
+    private RequestMatcher onManagementPort(RequestMatcher endpoints) {
+        return request -> managementPort > 0 && request.getLocalPort() == managementPort && endpoints.matches(request);
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
         return authConfig.getAuthenticationManager();
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.config;
+
+import java.util.Properties;
+
+import org.param.auth.mail.PooledJavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 5:36:08 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Replaces Spring Boot's JavaMailSender with the pooled one when auth.mail.pool.enabled=true.
+ * Connection settings still come from spring.mail.*.
+ */
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+@ConditionalOnProperty(name = "auth.mail.pool.enabled", havingValue = "true")
+public class MailSenderConfig {
+
+	//@formatter:off
+
+	@Bean
+	public JavaMailSender javaMailSender(MailProperties properties,
+										 @Value("${auth.mail.pool.size:4}") int poolSize,
+										 @Value("${auth.mail.pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+										 @Value("${auth.mail.pool.max-idle-ms:60000}") long maxIdleMs,
+										 @Value("${auth.mail.pool.max-lifetime-ms:600000}") long maxLifetimeMs,
+										 @Value("${auth.mail.pool.validate-after-idle-ms:5000}") long validateAfterIdleMs,
+										 @Value("${auth.mail.pool.borrow-timeout-ms:10000}") long borrowTimeoutMs) {
+
+		PooledJavaMailSender sender = new PooledJavaMailSender(poolSize, maxMessagesPerConnection, maxIdleMs,
+															   maxLifetimeMs, validateAfterIdleMs, borrowTimeoutMs);
+		sender.setHost(properties.getHost());
+		if (properties.getPort() != null) {
+			sender.setPort(properties.getPort());
+		}
+		sender.setUsername(properties.getUsername());
+		sender.setPassword(properties.getPassword());
+		sender.setProtocol(properties.getProtocol());
+		if (properties.getDefaultEncoding() != null) {
+			sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+		}
+		if (!properties.getProperties().isEmpty()) {
+			Properties javaMailProperties = new Properties();
+			javaMailProperties.putAll(properties.getProperties());
+			sender.setJavaMailProperties(javaMailProperties);
+		}
+		return sender;
+	}
+
+	//@formatter:on
+}
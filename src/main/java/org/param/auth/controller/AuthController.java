@@ -15,20 +15,38 @@
  */
 package org.param.auth.controller;
 
+import java.time.Duration;
+
 import org.param.auth.dto.AuthResponse;
 import org.param.auth.dto.ForgotPasswordRequest;
+import org.param.auth.dto.IntrospectRequest;
+import org.param.auth.dto.IntrospectResponse;
 import org.param.auth.dto.LoginRequest;
 import org.param.auth.dto.RefreshTokenRequest;
 import org.param.auth.dto.RegisterRequest;
 import org.param.auth.dto.ResetPasswordRequest;
+import org.param.auth.exception.InvalidCredentialsException;
+import org.param.auth.security.AuthRateLimiter;
+import org.param.auth.security.AuthRateLimiter.Endpoint;
+import org.param.auth.security.JwksDocument;
 import org.param.auth.service.AuthService;
+import org.param.auth.service.JwtService;
+import org.param.auth.service.TokenIntrospectionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -46,6 +64,12 @@ import lombok.RequiredArgsConstructor;
 public class AuthController {
 
 	private final AuthService authService;
+	private final JwtService jwtService;
+	private final TokenIntrospectionService tokenIntrospectionService;
+	private final AuthRateLimiter authRateLimiter;
+
+	@Value("${security.jwt.jwks.max-age-seconds:300}")
+	private long jwksMaxAgeSeconds;
 
 	// User Registration (Sign Up)
 	@PostMapping("/signup")
@@ -56,9 +80,15 @@ public class AuthController {
 
 	// Login (returns JWT tokens)
 	@PostMapping("/login")
-	public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-		AuthResponse response = authService.login(request);
-		return ResponseEntity.ok(response);
+	public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+		authRateLimiter.checkAttempt(Endpoint.LOGIN, httpRequest.getRemoteAddr(), request.getEmail());
+		try {
+			AuthResponse response = authService.login(request);
+			return ResponseEntity.ok(response);
+		} catch (InvalidCredentialsException e) {
+			authRateLimiter.recordFailure(Endpoint.LOGIN, request.getEmail());
+			throw e;
+		}
 	}
 
 	// Refresh access token using refresh token
@@ -70,15 +100,46 @@ public class AuthController {
 
 	// Forgot password - generates and emails OTP
 	@PostMapping("/forgot-password")
-	public ResponseEntity<String> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
+	public ResponseEntity<String> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request,
+			HttpServletRequest httpRequest) {
+		authRateLimiter.check(Endpoint.FORGOT_PASSWORD, httpRequest.getRemoteAddr(), request.getEmail());
 		authService.forgotPassword(request);
 		return ResponseEntity.ok("If your email exists, an OTP has been sent");
 	}
 
 	// Reset password - validate OTP and update password
 	@PostMapping("/reset-password")
-	public ResponseEntity<String> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
+	public ResponseEntity<String> resetPassword(@Valid @RequestBody ResetPasswordRequest request,
+			HttpServletRequest httpRequest) {
+		authRateLimiter.check(Endpoint.RESET_PASSWORD, httpRequest.getRemoteAddr(), request.getEmail());
 		authService.resetPassword(request);
 		return ResponseEntity.ok("Password reset successful");
 	}
+
+	// Batch token introspection - validity, subject, roles and expiry per token
+	@PostMapping("/introspect")
+	public ResponseEntity<IntrospectResponse> introspect(@Valid @RequestBody IntrospectRequest request,
+			HttpServletRequest httpRequest) {
+		// Charged per token: each one may cost a signature verification
+		authRateLimiter.check(Endpoint.INTROSPECT, httpRequest.getRemoteAddr(), request.getTokens().size());
+		IntrospectResponse response = tokenIntrospectionService.introspect(request);
+		return ResponseEntity.ok(response);
+	}
+
+	// Public verification keys (JWK Set) so other services can verify tokens locally
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<String> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		JwksDocument jwks = jwtService.getJwks();
+		CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(jwksMaxAgeSeconds)).cachePublic();
+
+		if (ifNoneMatch != null && ifNoneMatch.contains(jwks.getEtag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(jwks.getEtag()).cacheControl(cacheControl).build();
+		}
+
+		return ResponseEntity.ok()
+				.eTag(jwks.getEtag())
+				.cacheControl(cacheControl)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(jwks.getJson());
+	}
 }
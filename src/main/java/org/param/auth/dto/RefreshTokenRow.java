@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 12:04:51 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * One row of the refresh token / user / role join, so a refresh needs a single statement. A user
+ * with several roles yields one row per role; role is null when the user has none.
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenRow {
+
+	private String token;
+
+	private LocalDateTime expiryDate;
+
+	private String email;
+
+	private String role;
+}
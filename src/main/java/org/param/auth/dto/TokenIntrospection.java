@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.dto;
+
+import java.time.Instant;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 2:07:46 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+
+	private static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null);
+
+	private boolean active;
+
+	private String subject;
+
+	private Set<String> roles;
+
+	private Instant expiresAt;
+
+	public static TokenIntrospection inactive() {
+		return INACTIVE;
+	}
+}
@@ -18,8 +18,10 @@ package org.param.auth.exception;
 import java.time.LocalDateTime;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
@@ -59,6 +61,25 @@ public class AuthGlobalExceptionHandler {
 		return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
 	}
 
+	@ExceptionHandler(ServiceBusyException.class)
+	public ResponseEntity<?> handleServiceBusy(ServiceBusyException ex, WebRequest req) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "1");
+		return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), headers);
+	}
+
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<?> handleTooManyRequests(TooManyRequestsException ex, WebRequest req) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+		return buildResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), headers);
+	}
+
+	@ExceptionHandler(MethodArgumentNotValidException.class)
+	public ResponseEntity<?> handleValidationErrors(MethodArgumentNotValidException ex, WebRequest req) {
+		return buildResponse(HttpStatus.BAD_REQUEST, "Invalid request");
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<?> handleOtherExceptions(Exception ex, WebRequest req) {
 		return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Something went wrong. Please try again later.");
@@ -66,12 +87,16 @@ public class AuthGlobalExceptionHandler {
 
 	// @formatter:off
 	private ResponseEntity<Map<String, Object>> buildResponse(HttpStatus status, String message) {
+		return buildResponse(status, message, new HttpHeaders());
+	}
+
+	private ResponseEntity<Map<String, Object>> buildResponse(HttpStatus status, String message, HttpHeaders headers) {
 		Map<String, Object> body = Map.of("timestamp", LocalDateTime.now(), 
 										  "status", status.value(), 
 										  "error", status.getReasonPhrase(), 
 										  "message", message);
 		
-		return new ResponseEntity<>(body, status);
+		return new ResponseEntity<>(body, headers, status);
 	}
 	// @formatter:on
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.exception;
+
+import java.util.List;
+
+import org.param.auth.dto.EmailMessage;
+
+import lombok.Getter;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 4:05:40 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+@Getter
+public class EmailDeliveryException extends RuntimeException {
+
+	private static final long serialVersionUID = 7311405882617924519L;
+
+	// Only these were not accepted by the SMTP server; the rest of the batch was delivered
+	private final transient List<EmailMessage> failedMessages;
+
+	public EmailDeliveryException(List<EmailMessage> failedMessages, Throwable cause) {
+		super("Failed to send " + failedMessages.size() + " email(s)", cause);
+		this.failedMessages = failedMessages;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 3:38:52 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Base of the service's Flight Recorder events. Each subclass carries its own default threshold,
+ * which a recording can override per event name (see jfr/param-auth.jfc).
+ */
+@Category({ "Param Soft", "Auth" })
+public abstract class AuthEvent extends Event {
+
+	@Label("Outcome")
+	@Description("success, rejected, busy or error")
+	public String outcome;
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.jfr;
+
+import java.util.function.Supplier;
+
+import org.param.auth.metrics.Outcome;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 3:46:15 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Brackets a call with a Flight Recorder event and fills in its outcome. With the event disabled,
+ * begin and commit are no-ops the JIT removes, and the event object does not escape.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthEvents {
+
+	public static <T> T record(AuthEvent event, Supplier<T> call) {
+		event.begin();
+		try {
+			T result = call.get();
+			event.outcome = Outcome.SUCCESS.getTag();
+			return result;
+		} catch (RuntimeException e) {
+			event.outcome = Outcome.of(e).getTag();
+			throw e;
+		} finally {
+			event.commit();
+		}
+	}
+
+	public static void record(AuthEvent event, Runnable call) {
+		event.begin();
+		try {
+			call.run();
+			event.outcome = Outcome.SUCCESS.getTag();
+		} catch (RuntimeException e) {
+			event.outcome = Outcome.of(e).getTag();
+			throw e;
+		} finally {
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.job;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.param.auth.repository.OtpTokenRepository;
+import org.param.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 1:26:45 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Deletes expired OTP and refresh token rows in bounded chunks, one transaction per chunk, so
+ * row locks are held briefly and replicas see small transactions. A run stops at max-rows-per-run
+ * and the rest is picked up by the next run.
+ *
+ * Used OTPs are only removed once expired: deleting them earlier would let
+ * findTopByEmailOrderByExpiryTimeDesc fall back to an older, superseded code.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredTokenPurgeJob {
+
+	private final OtpTokenRepository otpTokenRepository;
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auth.purge.enabled:true}")
+	private boolean enabled;
+
+	@Value("${auth.purge.batch-size:1000}")
+	private int batchSize;
+
+	@Value("${auth.purge.max-rows-per-run:100000}")
+	private long maxRowsPerRun;
+
+	@Value("${auth.purge.pause-between-batches-ms:50}")
+	private long pauseBetweenBatchesMs;
+
+	@Scheduled(initialDelayString = "${auth.purge.initial-delay-ms:60000}",
+			fixedDelayString = "${auth.purge.interval-ms:300000}")
+	public void purge() {
+		if (!enabled) {
+			return;
+		}
+
+		LocalDateTime cutoff = LocalDateTime.now();
+		purge("otp_tokens", cutoff, otpTokenRepository::deleteExpired);
+		purge("refresh_tokens", cutoff, refreshTokenRepository::deleteExpired);
+	}
+
+	// @formatter:off
+
+	private void purge(String table, LocalDateTime cutoff, BiFunction<LocalDateTime, Integer, Integer> deleteBatch) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		long start = System.nanoTime();
+		long purged = 0;
+		int batches = 0;
+
+		try {
+			while (purged < maxRowsPerRun) {
+				int limit = (int) Math.min(batchSize, maxRowsPerRun - purged);
+				Integer deleted = template.execute(status -> deleteBatch.apply(cutoff, limit));
+
+				batches++;
+				purged += deleted == null ? 0 : deleted;
+				if (deleted == null || deleted < limit) {
+					break;
+				}
+
+				if (pauseBetweenBatchesMs > 0) {
+					Thread.sleep(pauseBetweenBatchesMs);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			log.error("Purge of expired rows from {} failed after {} rows", table, purged, e);
+		} finally {
+			long elapsedNanos = System.nanoTime() - start;
+
+			Counter.builder("auth.purge.rows")
+				   .description("Expired rows deleted by the purge job")
+				   .tag("table", table)
+				   .register(meterRegistry)
+				   .increment(purged);
+
+			Timer.builder("auth.purge.duration")
+				 .description("Time taken by one purge run")
+				 .tag("table", table)
+				 .register(meterRegistry)
+				 .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+			if (purged > 0) {
+				log.info("Purged {} expired rows from {} in {} batches, {} ms", purged, table, batches,
+						 TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+			}
+		}
+	}
+
+	// @formatter:on
+}
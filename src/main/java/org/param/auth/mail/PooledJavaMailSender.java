@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.mail;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 5:10:33 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * JavaMailSenderImpl that keeps authenticated SMTP connections open between sends instead
+ * of paying TCP connect, STARTTLS and AUTH for every message. At most poolSize connections
+ * exist; a connection is recycled after maxMessagesPerConnection messages or maxLifetimeMs,
+ * closed after maxIdleMs without use, and NOOP-checked before reuse once it has been idle
+ * for validateAfterIdleMs.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+	private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+	private final int maxMessagesPerConnection;
+	private final long maxIdleMs;
+	private final long maxLifetimeMs;
+	private final long validateAfterIdleMs;
+	private final long borrowTimeoutMs;
+
+	private final Semaphore permits;
+	// LIFO so the most recently used, warmest connection is reused first
+	private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+	private final ScheduledExecutorService reaper;
+
+	// @formatter:off
+
+	public PooledJavaMailSender(int poolSize, int maxMessagesPerConnection, long maxIdleMs, long maxLifetimeMs,
+								long validateAfterIdleMs, long borrowTimeoutMs) {
+		this.maxMessagesPerConnection = maxMessagesPerConnection;
+		this.maxIdleMs = maxIdleMs;
+		this.maxLifetimeMs = maxLifetimeMs;
+		this.validateAfterIdleMs = validateAfterIdleMs;
+		this.borrowTimeoutMs = borrowTimeoutMs;
+		this.permits = new Semaphore(poolSize, true);
+
+		this.reaper = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("smtp-pool-reaper-"));
+		long period = Math.max(1000, maxIdleMs / 2);
+		reaper.scheduleWithFixedDelay(this::closeExpiredIdle, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+		Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+		PooledTransport pooled = null;
+
+		if (!acquirePermit()) {
+			for (int i = 0; i < mimeMessages.length; i++) {
+				failedMessages.put(original(mimeMessages, originalMessages, i), new MessagingException("SMTP pool exhausted"));
+			}
+			throw new MailSendException("No SMTP connection available within " + borrowTimeoutMs + " ms", null, failedMessages);
+		}
+
+		try {
+			for (int i = 0; i < mimeMessages.length; i++) {
+				if (pooled == null) {
+					try {
+						pooled = borrow();
+					} catch (AuthenticationFailedException ex) {
+						throw new MailAuthenticationException(ex);
+					} catch (Exception ex) {
+						for (int j = i; j < mimeMessages.length; j++) {
+							failedMessages.put(original(mimeMessages, originalMessages, j), ex);
+						}
+						throw new MailSendException("Mail server connection failed", ex, failedMessages);
+					}
+				}
+
+				MimeMessage mimeMessage = mimeMessages[i];
+				try {
+					if (mimeMessage.getSentDate() == null) {
+						mimeMessage.setSentDate(new Date());
+					}
+					String messageId = mimeMessage.getMessageID();
+					mimeMessage.saveChanges();
+					if (messageId != null) {
+						// Preserve explicitly specified message id...
+						mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+					}
+					Address[] addresses = mimeMessage.getAllRecipients();
+					pooled.transport.sendMessage(mimeMessage, (addresses != null ? addresses : new Address[0]));
+					pooled.messagesSent++;
+				} catch (Exception ex) {
+					failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+
+					// A rejected recipient leaves the session usable, anything else may not have
+					if (!(ex instanceof SendFailedException) && !pooled.transport.isConnected()) {
+						close(pooled);
+						pooled = null;
+					}
+				}
+			}
+		} finally {
+			if (pooled != null) {
+				release(pooled);
+			}
+			permits.release();
+		}
+
+		if (!failedMessages.isEmpty()) {
+			throw new MailSendException(failedMessages);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		reaper.shutdownNow();
+		PooledTransport pooled;
+		while ((pooled = idle.pollFirst()) != null) {
+			close(pooled);
+		}
+	}
+
+	private boolean acquirePermit() {
+		try {
+			return permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private PooledTransport borrow() throws MessagingException {
+		PooledTransport pooled;
+		while ((pooled = idle.pollFirst()) != null) {
+			if (isReusable(pooled, System.currentTimeMillis())) {
+				return pooled;
+			}
+			close(pooled);
+		}
+		return new PooledTransport(connectTransport());
+	}
+
+	private void release(PooledTransport pooled) {
+		long now = System.currentTimeMillis();
+		pooled.lastUsedAt = now;
+
+		if (pooled.messagesSent >= maxMessagesPerConnection || now - pooled.createdAt >= maxLifetimeMs) {
+			close(pooled);
+		} else {
+			idle.offerFirst(pooled);
+		}
+	}
+
+	private boolean isReusable(PooledTransport pooled, long now) {
+		long idleFor = now - pooled.lastUsedAt;
+
+		if (idleFor >= maxIdleMs || now - pooled.createdAt >= maxLifetimeMs) {
+			return false;
+		}
+		// SMTPTransport.isConnected() sends a NOOP, so only probe connections that sat idle
+		return idleFor < validateAfterIdleMs || pooled.transport.isConnected();
+	}
+
+	private void closeExpiredIdle() {
+		long now = System.currentTimeMillis();
+		for (PooledTransport pooled : idle) {
+			if (now - pooled.lastUsedAt >= maxIdleMs && idle.remove(pooled)) {
+				close(pooled);
+			}
+		}
+	}
+
+	private void close(PooledTransport pooled) {
+		try {
+			pooled.transport.close();
+		} catch (Exception ex) {
+			log.debug("Failed to close SMTP connection", ex);
+		}
+	}
+
+	private Object original(MimeMessage[] mimeMessages, Object[] originalMessages, int index) {
+		return originalMessages != null ? originalMessages[index] : mimeMessages[index];
+	}
+
+	private static final class PooledTransport {
+
+		private final Transport transport;
+		private final long createdAt;
+		private volatile long lastUsedAt;
+		private int messagesSent;
+
+		private PooledTransport(Transport transport) {
+			this.transport = transport;
+			this.createdAt = System.currentTimeMillis();
+			this.lastUsedAt = createdAt;
+		}
+	}
+
+	// @formatter:on
+}
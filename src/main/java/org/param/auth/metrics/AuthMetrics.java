@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 3:16:22 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Timers for AuthService operations (auth.service.operation) and their phases
+ * (auth.service.phase), tagged by outcome. Every tag combination is registered up front and held
+ * in arrays indexed by enum ordinal, so recording is two nanoTime reads and an array lookup with
+ * no tag or meter-id allocation on the request path. The timer count doubles as the call counter.
+ *
+ * Operation timers publish percentile histograms for p99 in Prometheus; phase timers only do so
+ * with auth.metrics.phase-histograms, as they multiply the series count.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auth.metrics.phase-histograms:false}")
+	private boolean phaseHistograms;
+
+	private Timer[][] operationTimers;
+	private Timer[][] phaseTimers;
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		Outcome[] outcomes = Outcome.values();
+
+		operationTimers = new Timer[AuthOperation.values().length][outcomes.length];
+		for (AuthOperation operation : AuthOperation.values()) {
+			for (Outcome outcome : outcomes) {
+				operationTimers[operation.ordinal()][outcome.ordinal()] = Timer.builder("auth.service.operation")
+																			   .description("AuthService call time")
+																			   .tag("operation", operation.getTag())
+																			   .tag("outcome", outcome.getTag())
+																			   .publishPercentileHistogram()
+																			   .register(meterRegistry);
+			}
+		}
+
+		phaseTimers = new Timer[AuthPhase.values().length][outcomes.length];
+		for (AuthPhase phase : AuthPhase.values()) {
+			for (Outcome outcome : outcomes) {
+				phaseTimers[phase.ordinal()][outcome.ordinal()] = Timer.builder("auth.service.phase")
+																	   .description("Time spent in one phase of an AuthService call")
+																	   .tag("operation", phase.getOperation().getTag())
+																	   .tag("phase", phase.getTag())
+																	   .tag("outcome", outcome.getTag())
+																	   .publishPercentileHistogram(phaseHistograms)
+																	   .register(meterRegistry);
+			}
+		}
+	}
+
+	// @formatter:on
+
+	public <T> T time(AuthOperation operation, Supplier<T> call) {
+		return time(operationTimers[operation.ordinal()], call);
+	}
+
+	public void time(AuthOperation operation, Runnable call) {
+		time(operationTimers[operation.ordinal()], call);
+	}
+
+	public <T> T time(AuthPhase phase, Supplier<T> call) {
+		return time(phaseTimers[phase.ordinal()], call);
+	}
+
+	public void time(AuthPhase phase, Runnable call) {
+		time(phaseTimers[phase.ordinal()], call);
+	}
+
+	private static <T> T time(Timer[] byOutcome, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			T result = call.get();
+			byOutcome[Outcome.SUCCESS.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return result;
+		} catch (RuntimeException e) {
+			byOutcome[Outcome.of(e).ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			throw e;
+		}
+	}
+
+	private static void time(Timer[] byOutcome, Runnable call) {
+		long start = System.nanoTime();
+		try {
+			call.run();
+			byOutcome[Outcome.SUCCESS.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		} catch (RuntimeException e) {
+			byOutcome[Outcome.of(e).ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			throw e;
+		}
+	}
+}
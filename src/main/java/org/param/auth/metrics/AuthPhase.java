@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.metrics;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 3:12:05 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Timed phases of each AuthService operation, tagged operation / phase on auth.service.phase.
+ */
+public enum AuthPhase {
+
+	// @formatter:off
+	REGISTER_EXISTS_CHECK(AuthOperation.REGISTER, "exists_check"),
+	REGISTER_HASH(AuthOperation.REGISTER, "password_hash"),
+	REGISTER_INSERT(AuthOperation.REGISTER, "insert"),
+
+	LOGIN_LOOKUP(AuthOperation.LOGIN, "user_lookup"),
+	LOGIN_HASH_LOOKUP(AuthOperation.LOGIN, "password_hash_lookup"),
+	LOGIN_PASSWORD_MATCH(AuthOperation.LOGIN, "password_match"),
+	LOGIN_REHASH(AuthOperation.LOGIN, "rehash"),
+	LOGIN_SIGN(AuthOperation.LOGIN, "token_sign"),
+	LOGIN_REFRESH_ISSUE(AuthOperation.LOGIN, "refresh_token_issue"),
+	LOGIN_TOKEN_UPSERT(AuthOperation.LOGIN, "refresh_token_upsert"),
+
+	REFRESH_VERIFY(AuthOperation.REFRESH_TOKEN, "token_verify"),
+	REFRESH_LOOKUP(AuthOperation.REFRESH_TOKEN, "token_lookup"),
+	REFRESH_SIGN(AuthOperation.REFRESH_TOKEN, "token_sign"),
+
+	FORGOT_LOOKUP(AuthOperation.FORGOT_PASSWORD, "user_lookup"),
+	FORGOT_OTP_ISSUE(AuthOperation.FORGOT_PASSWORD, "otp_issue"),
+	FORGOT_EMAIL_SEND(AuthOperation.FORGOT_PASSWORD, "email_send"),
+
+	RESET_OTP_CHECK(AuthOperation.RESET_PASSWORD, "otp_check"),
+	RESET_OTP_CONSUME(AuthOperation.RESET_PASSWORD, "otp_consume"),
+	RESET_LOOKUP(AuthOperation.RESET_PASSWORD, "user_lookup"),
+	RESET_HASH(AuthOperation.RESET_PASSWORD, "password_hash"),
+	RESET_UPDATE(AuthOperation.RESET_PASSWORD, "update");
+	// @formatter:on
+
+	private final AuthOperation operation;
+	private final String tag;
+
+	AuthPhase(AuthOperation operation, String tag) {
+		this.operation = operation;
+		this.tag = tag;
+	}
+
+	public AuthOperation getOperation() {
+		return operation;
+	}
+
+	public String getTag() {
+		return tag;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.metrics;
+
+import org.param.auth.exception.InvalidCredentialsException;
+import org.param.auth.exception.InvalidOtpException;
+import org.param.auth.exception.InvalidTokenException;
+import org.param.auth.exception.ServiceBusyException;
+import org.param.auth.exception.TooManyRequestsException;
+import org.param.auth.exception.UserAlreadyExistsException;
+import org.param.auth.exception.UserNotFoundException;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 3:10:33 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+public enum Outcome {
+
+	// completed normally
+	SUCCESS("success"),
+	// refused for a client reason: bad credentials, token or OTP, duplicate or unknown user
+	REJECTED("rejected"),
+	// shed under load (503 / 429)
+	BUSY("busy"),
+	// anything else
+	ERROR("error");
+
+	private final String tag;
+
+	Outcome(String tag) {
+		this.tag = tag;
+	}
+
+	public String getTag() {
+		return tag;
+	}
+
+	public static Outcome of(Throwable failure) {
+		if (failure instanceof InvalidCredentialsException || failure instanceof InvalidTokenException
+				|| failure instanceof InvalidOtpException || failure instanceof UserAlreadyExistsException
+				|| failure instanceof UserNotFoundException) {
+			return REJECTED;
+		}
+		if (failure instanceof ServiceBusyException || failure instanceof TooManyRequestsException) {
+			return BUSY;
+		}
+		return ERROR;
+	}
+}
@@ -22,6 +22,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -37,7 +38,11 @@ import lombok.Setter;
  */
 
 @Entity
-@Table(name = "otp_tokens")
+@Table(name = "otp_tokens", indexes = {
+		// findTopByEmailOrderByExpiryTimeDesc: seek on email, read the newest entry first
+		@Index(name = "idx_otp_tokens_email_expiry_time", columnList = "email, expiry_time"),
+		// expired-row purge
+		@Index(name = "idx_otp_tokens_expiry_time", columnList = "expiry_time") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +23,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -40,7 +41,9 @@ import lombok.Setter;
  */
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+		// expired-row purge; token and user_id are already unique
+		@Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.otp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.param.auth.cache.UserLookupCache;
+import org.param.auth.exception.InvalidOtpException;
+import org.param.auth.repository.UserRepository;
+import org.param.auth.util.SecureRandomPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 4:41:08 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Stateless OTPs: the code is HOTP-truncated HMAC-SHA256(secret, email | window | password hash),
+ * so nothing is written on issue and consume only recomputes. A window is half of
+ * auth.otp.expiry-minutes and the current and previous windows are accepted, so a code lives
+ * between half and all of the expiry.
+ *
+ * One-time use comes from the password hash: the reset that redeems a code changes the hash and
+ * with it every outstanding code. Two resets racing with the same code can both pass, the later
+ * write wins; both callers held the code. Issuing again in the same window yields the same code.
+ *
+ * Both sides read the hash from the database, never from UserLookupCache: a snapshot cached before
+ * a reset on another instance would email a code that cannot validate, or revive a redeemed one.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.otp.store", havingValue = "hmac")
+public class HmacOtpStore implements OtpStore {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int OTP_LENGTH = 6;
+	private static final int OTP_MODULUS = 1_000_000;
+	private static final int MIN_SECRET_BYTES = 32;
+
+	private final UserRepository userRepository;
+
+	@Value("${auth.otp.expiry-minutes:10}")
+	private long expiryMinutes;
+
+	@Value("${auth.otp.hmac.secret:}")
+	private String secret;
+
+	private Clock clock = Clock.systemUTC();
+
+	private SecretKeySpec key;
+	private long windowMillis;
+
+	@PostConstruct
+	public void init() {
+		byte[] secretBytes = secret == null ? new byte[0] : Base64.getDecoder().decode(secret.trim());
+		if (secretBytes.length < MIN_SECRET_BYTES) {
+			throw new IllegalStateException(
+					"auth.otp.hmac.secret must be a base64 key of at least " + MIN_SECRET_BYTES + " bytes");
+		}
+
+		this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+		this.windowMillis = Math.max(1_000L, expiryMinutes * 60_000L / 2);
+	}
+
+	@Override
+	public String issue(String email) {
+		String normalized = UserLookupCache.normalize(email);
+		return userRepository.findPasswordHashByEmail(email)
+				.map(passwordHash -> derive(normalized, currentWindow(), passwordHash))
+				// Not reached from forgotPassword; a code nothing can verify keeps the contract
+				.orElseGet(() -> SecureRandomPool.numericOtp(OTP_LENGTH));
+	}
+
+	// Nothing to redeem: the password change that follows retires the code
+	@Override
+	public void consume(String email, String otp) {
+		check(email, otp);
+	}
+
+	@Override
+	public void check(String email, String otp) {
+		if (otp == null || otp.length() != OTP_LENGTH) {
+			throw new InvalidOtpException("Invalid OTP");
+		}
+
+		String normalized = UserLookupCache.normalize(email);
+		String passwordHash = userRepository.findPasswordHashByEmail(email)
+				.orElseThrow(() -> new InvalidOtpException("Invalid OTP"));
+
+		byte[] presented = otp.getBytes(StandardCharsets.US_ASCII);
+		long window = currentWindow();
+
+		// Both windows are always computed, so timing does not reveal which one matched
+		boolean current = MessageDigest.isEqual(presented,
+				derive(normalized, window, passwordHash).getBytes(StandardCharsets.US_ASCII));
+		boolean previous = MessageDigest.isEqual(presented,
+				derive(normalized, window - 1, passwordHash).getBytes(StandardCharsets.US_ASCII));
+
+		if (!current && !previous) {
+			throw new InvalidOtpException("Invalid OTP");
+		}
+	}
+
+	private long currentWindow() {
+		return clock.millis() / windowMillis;
+	}
+
+	// RFC 4226 dynamic truncation over the HMAC-SHA256 output
+	String derive(String email, long window, String passwordHash) {
+		byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+		byte[] hashBytes = passwordHash.getBytes(StandardCharsets.UTF_8);
+
+		// Length-prefixed so no email/hash split can collide with another
+		// @formatter:off
+		ByteBuffer message = ByteBuffer.allocate(4 + emailBytes.length + 8 + hashBytes.length)
+									   .putInt(emailBytes.length).put(emailBytes)
+									   .putLong(window)
+									   .put(hashBytes);
+		// @formatter:on
+
+		byte[] mac;
+		try {
+			Mac hmac = Mac.getInstance(ALGORITHM);
+			hmac.init(key);
+			mac = hmac.doFinal(message.array());
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(ALGORITHM + " not available", e);
+		}
+
+		int offset = mac[mac.length - 1] & 0x0f;
+		int binary = ((mac[offset] & 0x7f) << 24)
+				| ((mac[offset + 1] & 0xff) << 16)
+				| ((mac[offset + 2] & 0xff) << 8)
+				| (mac[offset + 3] & 0xff);
+
+		char[] code = new char[OTP_LENGTH];
+		int value = binary % OTP_MODULUS;
+		for (int i = OTP_LENGTH - 1; i >= 0; i--) {
+			code[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+		return new String(code);
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.otp;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.param.auth.cache.UserLookupCache;
+import org.param.auth.exception.InvalidOtpException;
+import org.param.auth.exception.ServiceBusyException;
+import org.param.auth.util.HashedTimingWheel;
+import org.param.auth.util.OtpUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 12:52:36 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Memory-resident OTP store keyed by normalized email. Codes are lost on restart, and with several
+ * instances a reset must reach the instance that issued the code, so this suits a single node or
+ * sticky routing.
+ *
+ * Entries are reclaimed by a hashed timing wheel at their expiry; consume also checks the expiry
+ * itself, so a late wheel never extends a code's life. The number of scheduled expiries (live plus
+ * superseded codes) is capped at max-entries, beyond which issue fails with 503.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.otp.store", havingValue = "memory")
+public class InMemoryOtpStore implements OtpStore, DisposableBean {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auth.otp.expiry-minutes:10}")
+	private long expiryMinutes;
+
+	@Value("${auth.otp.memory.max-entries:100000}")
+	private int maxEntries;
+
+	@Value("${auth.otp.memory.tick-ms:1000}")
+	private long tickMs;
+
+	@Value("${auth.otp.memory.wheel-size:1024}")
+	private int wheelSize;
+
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private HashedTimingWheel<Expiry> wheel;
+	private Counter rejected;
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		this.wheel = new HashedTimingWheel<>("otp-expiry-wheel", tickMs, TimeUnit.MILLISECONDS, wheelSize,
+											 expiry -> entries.remove(expiry.email, expiry.entry));
+
+		Gauge.builder("auth.otp.store.size", entries, ConcurrentHashMap::size)
+			 .description("Live OTPs held in memory")
+			 .register(meterRegistry);
+
+		this.rejected = Counter.builder("auth.otp.store.rejected")
+							   .description("OTPs not issued because the store was full")
+							   .register(meterRegistry);
+	}
+
+	// @formatter:on
+
+	@Override
+	public String issue(String email) {
+		if (wheel.pending() >= maxEntries) {
+			rejected.increment();
+			log.warn("In-memory OTP store full ({} entries), rejecting new OTP", maxEntries);
+			throw new ServiceBusyException("Server is busy, please retry shortly");
+		}
+
+		String key = UserLookupCache.normalize(email);
+		String otp = OtpUtil.generateOtp();
+		long ttlNanos = TimeUnit.MINUTES.toNanos(expiryMinutes);
+
+		Entry entry = new Entry(otp, System.nanoTime() + ttlNanos);
+		entries.put(key, entry); // supersedes any earlier code
+		wheel.schedule(new Expiry(key, entry), ttlNanos, TimeUnit.NANOSECONDS);
+		return otp;
+	}
+
+	@Override
+	public void check(String email, String otp) {
+		validEntry(UserLookupCache.normalize(email), otp);
+	}
+
+	@Override
+	public void consume(String email, String otp) {
+		String key = UserLookupCache.normalize(email);
+		Entry entry = validEntry(key, otp);
+
+		// Only one of several concurrent resets with the right code may win
+		if (!entry.used.compareAndSet(false, true)) {
+			throw new InvalidOtpException("OTP expired or already used");
+		}
+		entries.remove(key, entry);
+	}
+
+	private Entry validEntry(String key, String otp) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			throw new InvalidOtpException("Invalid OTP");
+		}
+
+		if (entry.used.get() || System.nanoTime() - entry.expiresAtNanos >= 0) {
+			throw new InvalidOtpException("OTP expired or already used");
+		}
+
+		if (otp == null || !MessageDigest.isEqual(entry.otp, otp.getBytes(StandardCharsets.UTF_8))) {
+			throw new InvalidOtpException("Invalid OTP");
+		}
+		return entry;
+	}
+
+	@Override
+	public void destroy() {
+		wheel.close();
+	}
+
+	private static final class Entry {
+
+		private final byte[] otp;
+		private final long expiresAtNanos;
+		private final AtomicBoolean used = new AtomicBoolean();
+
+		private Entry(String otp, long expiresAtNanos) {
+			this.otp = otp.getBytes(StandardCharsets.UTF_8);
+			this.expiresAtNanos = expiresAtNanos;
+		}
+	}
+
+	private static final class Expiry {
+
+		private final String email;
+		private final Entry entry;
+
+		private Expiry(String email, Entry entry) {
+			this.email = email;
+			this.entry = entry;
+		}
+	}
+}
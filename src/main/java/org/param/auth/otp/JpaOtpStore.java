@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.otp;
+
+import java.time.LocalDateTime;
+
+import org.param.auth.exception.InvalidOtpException;
+import org.param.auth.model.OtpToken;
+import org.param.auth.repository.OtpTokenRepository;
+import org.param.auth.util.OtpUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 12:47:02 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.otp.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaOtpStore implements OtpStore {
+
+	private final OtpTokenRepository otpTokenRepository;
+
+	@Value("${auth.otp.expiry-minutes:10}")
+	private long expiryMinutes;
+
+	@Override
+	public String issue(String email) {
+		String otp = OtpUtil.generateOtp();
+
+		// In prod: hash OTP before storing (omitted here for clarity)
+		OtpToken otpToken = OtpToken.builder().email(email).otp(otp)
+				.expiryTime(LocalDateTime.now().plusMinutes(expiryMinutes)).used(false).build();
+
+		otpTokenRepository.save(otpToken);
+		return otp;
+	}
+
+	@Override
+	public void check(String email, String otp) {
+		validToken(email, otp);
+	}
+
+	@Override
+	public void consume(String email, String otp) {
+		OtpToken otpToken = validToken(email, otp);
+		otpToken.setUsed(true);
+		otpTokenRepository.save(otpToken);
+	}
+
+	private OtpToken validToken(String email, String otp) {
+		OtpToken otpToken = otpTokenRepository.findTopByEmailOrderByExpiryTimeDesc(email)
+				.orElseThrow(() -> new InvalidOtpException("Invalid OTP"));
+
+		if (otpToken.isUsed() || otpToken.getExpiryTime().isBefore(LocalDateTime.now())) {
+			throw new InvalidOtpException("OTP expired or already used");
+		}
+
+		if (!otpToken.getOtp().equals(otp)) {
+			throw new InvalidOtpException("Invalid OTP");
+		}
+		return otpToken;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.otp;
+
+import org.param.auth.exception.InvalidOtpException;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 12:44:19 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Issues and redeems password reset OTPs. Selected with auth.otp.store (jpa | memory | hmac).
+ */
+public interface OtpStore {
+
+	// Issues a fresh code for the email, superseding any earlier one
+	String issue(String email);
+
+	/**
+	 * Checks the latest code for the email without redeeming it, so expensive work can be skipped
+	 * for a bad code and a failure in that work does not burn a good one.
+	 *
+	 * @throws InvalidOtpException when there is no code, it is expired or used, or it does not match
+	 */
+	void check(String email, String otp);
+
+	/**
+	 * Redeems the latest code for the email, at most once.
+	 *
+	 * @throws InvalidOtpException when there is no code, it is expired or used, or it does not match
+	 */
+	void consume(String email, String otp);
+
+}
@@ -15,10 +15,14 @@
  */
 package org.param.auth.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.param.auth.model.OtpToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Author: PARAMESHWARAN PV
@@ -30,4 +34,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface OtpTokenRepository extends JpaRepository<OtpToken, Long> {
 
 	Optional<OtpToken> findTopByEmailOrderByExpiryTimeDesc(String email);
+
+	// Bounded chunk so each purge transaction holds its locks briefly
+	@Modifying
+	@Query(value = "DELETE FROM otp_tokens WHERE expiry_time < :cutoff LIMIT :limit", nativeQuery = true)
+	int deleteExpired(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
\ No newline at end of file
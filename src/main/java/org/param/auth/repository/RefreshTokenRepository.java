@@ -15,11 +15,17 @@
  */
 package org.param.auth.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.param.auth.dto.RefreshTokenRow;
 import org.param.auth.model.RefreshToken;
 import org.param.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Author: PARAMESHWARAN PV
@@ -32,7 +38,24 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
 
 	Optional<RefreshToken> findByToken(String token);
 
+	// @formatter:off
+	@Query("select new org.param.auth.dto.RefreshTokenRow(rt.token, rt.expiryDate, u.email, r) "
+		 + "from RefreshToken rt join rt.user u left join u.roles r "
+		 + "where rt.token = :token")
+	List<RefreshTokenRow> findRowsByToken(@Param("token") String token);
+
+	@Query("select new org.param.auth.dto.RefreshTokenRow(rt.token, rt.expiryDate, u.email, r) "
+		 + "from RefreshToken rt join rt.user u left join u.roles r "
+		 + "where u.email = :email")
+	List<RefreshTokenRow> findRowsByUserEmail(@Param("email") String email);
+	// @formatter:on
+
 	Optional<RefreshToken> findByUser(User user);
 
 	void deleteByUser(User user);
+
+	// Bounded chunk so each purge transaction holds its locks briefly
+	@Modifying
+	@Query(value = "DELETE FROM refresh_tokens WHERE expiry_date < :cutoff LIMIT :limit", nativeQuery = true)
+	int deleteExpired(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
\ No newline at end of file
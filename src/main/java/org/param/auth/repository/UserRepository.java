@@ -16,10 +16,19 @@
 package org.param.auth.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.param.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Author: PARAMESHWARAN PV
@@ -34,4 +43,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByEmail(String email);
 	
 	boolean existsByEmail(String email);
+
+	// Must be consumed inside a transaction and closed by the caller
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select u.email from User u")
+	Stream<String> streamAllEmails();
+
+	// Current password hash only, for checks that must not trust a cached snapshot
+	@Query("select u.password from User u where u.email = :email")
+	Optional<String> findPasswordHashByEmail(@Param("email") String email);
+
+	// Compare-and-set, so a rehash cannot overwrite a password changed since it was read
+	@Transactional
+	@Modifying
+	@Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+	int updatePasswordIfUnchanged(@Param("id") long id, @Param("oldHash") String oldHash,
+			@Param("newHash") String newHash);
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.jsonwebtoken.Jwts;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 4:58:14 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Mints access tokens for one signing key without the JJWT builder. The encoded header comes from a
+ * JJWT-built sample, role sets are kept as encoded JSON fragments, and the payload is written
+ * into pooled buffers and signed with a pooled Signature. Only RS256 and EdDSA are covered; their
+ * signatures are deterministic, so forKey can compare a fast token with a JJWT one byte for byte
+ * and refuses the key on any difference. ES256 always goes through JJWT.
+ *
+ * mint returns null when the input is outside what the fast path reproduces exactly (characters
+ * JSON would escape, empty roles); callers then use {@link #build}. Buffers are pooled rather than
+ * thread-local because requests run on short-lived virtual threads.
+ */
+@Slf4j
+public final class AccessTokenMinter {
+
+	private static final int POOL_SIZE = 64;
+	private static final int MAX_ROLE_FRAGMENTS = 1024;
+
+	private static final byte[] BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+			.getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] SUB = ascii("{\"sub\":\"");
+	private static final byte[] ROLES = ascii("\",\"roles\":");
+	private static final byte[] IAT = ascii(",\"iat\":");
+	private static final byte[] EXP = ascii(",\"exp\":");
+
+	@Getter
+	private final JwtKey key;
+
+	private final String signatureAlgorithm;
+
+	// "<base64url header>."
+	private final byte[] headerSegment;
+
+	private final ConcurrentHashMap<Set<String>, RolesFragment> roleFragments = new ConcurrentHashMap<>();
+
+	private final BlockingQueue<Context> contexts = new ArrayBlockingQueue<>(POOL_SIZE);
+
+	private AccessTokenMinter(JwtKey key, String signatureAlgorithm, byte[] headerSegment) {
+		this.key = key;
+		this.signatureAlgorithm = signatureAlgorithm;
+		this.headerSegment = headerSegment;
+	}
+
+	/**
+	 * The reference encoding: what every access token looked like before the fast path, and what
+	 * the fast path must reproduce.
+	 */
+	// @formatter:off
+	public static String build(JwtKey key, String subject, Set<String> roles, Date issuedAt, Date expiration) {
+		return Jwts.builder()
+				   .header().keyId(key.getKid()).and()
+				   .subject(subject)
+				   .claim("roles", roles)
+				   .issuedAt(issuedAt)
+				   .expiration(expiration)
+				   .signWith(key.getPrivateKey(), key.getAlgorithm().getSignatureAlgorithm())
+				   .compact();
+	}
+	// @formatter:on
+
+	// null when the key's algorithm is not covered or the self-check fails
+	public static AccessTokenMinter forKey(JwtKey key) {
+		if (key == null || !key.canSign()) {
+			return null;
+		}
+
+		String signatureAlgorithm;
+		switch (key.getAlgorithm()) {
+		case RS256:
+			signatureAlgorithm = "SHA256withRSA";
+			break;
+		case EdDSA:
+			signatureAlgorithm = "EdDSA";
+			break;
+		default:
+			return null;
+		}
+
+		try {
+			Date issuedAt = new Date(1_700_000_000_000L);
+			Date expiration = new Date(1_700_003_600_000L);
+			Set<String> roles = new LinkedHashSet<>(List.of("USER", "ADMIN"));
+
+			String sample = build(key, "self-check@paramsoft.org", roles, issuedAt, expiration);
+			byte[] headerSegment = ascii(sample.substring(0, sample.indexOf('.') + 1));
+
+			AccessTokenMinter minter = new AccessTokenMinter(key, signatureAlgorithm, headerSegment);
+			String minted = minter.mint("self-check@paramsoft.org", roles, issuedAt.getTime(), expiration.getTime());
+			if (!sample.equals(minted)) {
+				log.warn("Fast access token minting disabled for kid {}: output differs from JJWT", key.getKid());
+				return null;
+			}
+			return minter;
+		} catch (Exception e) {
+			log.warn("Fast access token minting disabled for kid {}", key.getKid(), e);
+			return null;
+		}
+	}
+
+	public String mint(String subject, Set<String> roles, long issuedAtMillis, long expirationMillis) {
+		if (!isSafe(subject) || roles == null || roles.isEmpty()) {
+			return null;
+		}
+
+		byte[] rolesJson = rolesJson(roles);
+		if (rolesJson == null) {
+			return null;
+		}
+
+		Context context = contexts.poll();
+		try {
+			if (context == null) {
+				context = new Context(signatureAlgorithm, key);
+			}
+			String token = context.mint(headerSegment, subject, rolesJson, issuedAtMillis / 1000,
+					expirationMillis / 1000);
+			contexts.offer(context);
+			return token;
+		} catch (GeneralSecurityException e) {
+			// A context that failed mid-signature is dropped, not returned to the pool
+			log.debug("Fast access token minting failed, falling back to JJWT", e);
+			return null;
+		}
+	}
+
+	private byte[] rolesJson(Set<String> roles) {
+		RolesFragment fragment = roleFragments.get(roles);
+		if (fragment != null && fragment.matchesOrder(roles)) {
+			return fragment.json;
+		}
+
+		String[] order = roles.toArray(new String[0]);
+		for (String role : order) {
+			if (!isSafe(role)) {
+				return null;
+			}
+		}
+
+		byte[] json = encodeRoles(order);
+		// Keyed on an immutable copy; a set iterating in another order is encoded but not cached
+		if (fragment == null && roleFragments.size() < MAX_ROLE_FRAGMENTS) {
+			roleFragments.putIfAbsent(Set.copyOf(roles), new RolesFragment(order, json));
+		}
+		return json;
+	}
+
+	private static byte[] encodeRoles(String[] roles) {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < roles.length; i++) {
+			json.append(i == 0 ? "\"" : ",\"").append(roles[i]).append('"');
+		}
+		return ascii(json.append(']').toString());
+	}
+
+	// Printable ASCII that JSON writes unescaped
+	private static boolean isSafe(String value) {
+		if (value == null) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static final class RolesFragment {
+
+		private final String[] order;
+		private final byte[] json;
+
+		private RolesFragment(String[] order, byte[] json) {
+			this.order = order;
+			this.json = json;
+		}
+
+		// JJWT writes the set in iteration order, so the cached bytes only fit the same order
+		private boolean matchesOrder(Set<String> roles) {
+			int i = 0;
+			for (String role : roles) {
+				if (i >= order.length || !order[i++].equals(role)) {
+					return false;
+				}
+			}
+			return i == order.length;
+		}
+	}
+
+	private static final class Context {
+
+		private final Signature signature;
+		private byte[] payload = new byte[256];
+		private byte[] token = new byte[1024];
+		private final byte[] signatureBytes = new byte[1024]; // RSA up to 8192 bits
+
+		private Context(String algorithm, JwtKey key) throws GeneralSecurityException {
+			this.signature = Signature.getInstance(algorithm);
+			this.signature.initSign(key.getPrivateKey());
+		}
+
+		private String mint(byte[] header, String subject, byte[] rolesJson, long issuedAt, long expiration)
+				throws GeneralSecurityException {
+			int payloadLength = writePayload(subject, rolesJson, issuedAt, expiration);
+
+			int signingInputLength = header.length + encodedLength(payloadLength);
+			ensureToken(signingInputLength + 1 + encodedLength(signatureBytes.length));
+
+			System.arraycopy(header, 0, token, 0, header.length);
+			int position = encode(payload, payloadLength, token, header.length);
+
+			signature.update(token, 0, position);
+			int signatureLength = signature.sign(signatureBytes, 0, signatureBytes.length);
+
+			token[position++] = '.';
+			position = encode(signatureBytes, signatureLength, token, position);
+			return new String(token, 0, position, StandardCharsets.ISO_8859_1);
+		}
+
+		private int writePayload(String subject, byte[] rolesJson, long issuedAt, long expiration) {
+			// Two 20-digit longs at most
+			int required = SUB.length + subject.length() + ROLES.length + rolesJson.length + IAT.length
+					+ EXP.length + 41;
+			if (payload.length < required) {
+				payload = new byte[Math.max(required, payload.length * 2)];
+			}
+
+			int position = put(SUB, payload, 0);
+			for (int i = 0; i < subject.length(); i++) {
+				payload[position++] = (byte) subject.charAt(i);
+			}
+			position = put(ROLES, payload, position);
+			position = put(rolesJson, payload, position);
+			position = put(IAT, payload, position);
+			position = putLong(issuedAt, payload, position);
+			position = put(EXP, payload, position);
+			position = putLong(expiration, payload, position);
+			payload[position++] = '}';
+			return position;
+		}
+
+		private void ensureToken(int required) {
+			if (token.length < required) {
+				token = Arrays.copyOf(token, Math.max(required, token.length * 2));
+			}
+		}
+
+		private static int put(byte[] source, byte[] target, int position) {
+			System.arraycopy(source, 0, target, position, source.length);
+			return position + source.length;
+		}
+
+		private static int putLong(long value, byte[] target, int position) {
+			if (value < 0) {
+				target[position++] = '-';
+				value = -value;
+			}
+			int digits = 1;
+			for (long rest = value / 10; rest > 0; rest /= 10) {
+				digits++;
+			}
+			for (int i = position + digits - 1; i >= position; i--) {
+				target[i] = (byte) ('0' + value % 10);
+				value /= 10;
+			}
+			return position + digits;
+		}
+
+		private static int encodedLength(int length) {
+			return (length * 4 + 2) / 3;
+		}
+
+		// Unpadded base64url of source[0, length) written at target[position]
+		private static int encode(byte[] source, int length, byte[] target, int position) {
+			int i = 0;
+			for (; i + 3 <= length; i += 3) {
+				int bits = (source[i] & 0xff) << 16 | (source[i + 1] & 0xff) << 8 | (source[i + 2] & 0xff);
+				target[position++] = BASE64URL[bits >>> 18];
+				target[position++] = BASE64URL[(bits >>> 12) & 0x3f];
+				target[position++] = BASE64URL[(bits >>> 6) & 0x3f];
+				target[position++] = BASE64URL[bits & 0x3f];
+			}
+
+			int remaining = length - i;
+			if (remaining == 1) {
+				int bits = (source[i] & 0xff) << 16;
+				target[position++] = BASE64URL[bits >>> 18];
+				target[position++] = BASE64URL[(bits >>> 12) & 0x3f];
+			} else if (remaining == 2) {
+				int bits = (source[i] & 0xff) << 16 | (source[i + 1] & 0xff) << 8;
+				target[position++] = BASE64URL[bits >>> 18];
+				target[position++] = BASE64URL[(bits >>> 12) & 0x3f];
+				target[position++] = BASE64URL[(bits >>> 6) & 0x3f];
+			}
+			return position;
+		}
+	}
+}
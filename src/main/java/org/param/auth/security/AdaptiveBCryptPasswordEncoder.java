@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 6:40:21 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * BCrypt encoder that asks for a rehash when a stored hash was made at a lower cost than the
+ * configured one. Never downwards: the cost is calibrated per node, and on a mixed fleet a
+ * two-way rule would flip a user's hash between costs on every login, each flip paying an extra
+ * BCrypt and a write (and retiring any outstanding HMAC OTP).
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+	private final int strength;
+
+	public AdaptiveBCryptPasswordEncoder(int strength) {
+		super(strength);
+		this.strength = strength;
+	}
+
+	public int getStrength() {
+		return strength;
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		int cost = costOf(encodedPassword);
+		return cost > 0 && cost < strength;
+	}
+
+	// "$2a$10$..." -> 10, or -1 when the value is not a BCrypt hash
+	static int costOf(String encodedPassword) {
+		if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+				|| encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(encodedPassword.substring(4, 6));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.param.auth.cache.UserLookupCache;
+import org.param.auth.dto.IntrospectRequest;
+import org.param.auth.exception.TooManyRequestsException;
+import org.param.auth.util.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 2:26:58 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * In-memory throttling for the endpoints that cost BCrypt work, inserts, mail or signature
+ * verifications: one token bucket per client IP and one per (normalized) email for each endpoint.
+ * Limits are per instance. IPv6 clients share a bucket per /64. Behind the gateway the client IP
+ * comes from X-Forwarded-For, resolved by the container (server.forward-headers-strategy).
+ *
+ * Login charges the email bucket only for failed attempts (see checkAttempt / recordFailure): a
+ * user's own successful logins never use it up, only wrong passwords count against an address.
+ *
+ * Limits are read from auth.rate-limit.[endpoint].per-ip-capacity / per-ip-per-minute /
+ * per-email-capacity / per-email-per-minute, with the defaults below. Callers listed (IPs or CIDR
+ * blocks) in auth.rate-limit.[endpoint].trusted-callers skip the endpoint's limits; introspection
+ * uses this for the gateways, which check every token they forward.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthRateLimiter {
+
+	// @formatter:off
+	public enum Endpoint {
+		LOGIN("login", 20, 60, 10, 10, 1),
+		FORGOT_PASSWORD("forgot-password", 5, 5, 3, 1, 1),
+		RESET_PASSWORD("reset-password", 10, 10, 5, 5, 1),
+		// One token per introspected JWT; keyed by IP only
+		INTROSPECT("introspect", 500, 3000, 1, 1, IntrospectRequest.MAX_TOKENS);
+
+		private final String key;
+		private final long ipCapacity;
+		private final long ipPerMinute;
+		private final long emailCapacity;
+		private final long emailPerMinute;
+		// Largest single charge; the IP bucket must hold at least this many tokens
+		private final int maxPermits;
+
+		Endpoint(String key, long ipCapacity, long ipPerMinute, long emailCapacity, long emailPerMinute,
+				int maxPermits) {
+			this.key = key;
+			this.ipCapacity = ipCapacity;
+			this.ipPerMinute = ipPerMinute;
+			this.emailCapacity = emailCapacity;
+			this.emailPerMinute = emailPerMinute;
+			this.maxPermits = maxPermits;
+		}
+	}
+	// @formatter:on
+
+	private final Environment environment;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auth.rate-limit.enabled:true}")
+	private boolean enabled;
+
+	@Value("${auth.rate-limit.max-keys:100000}")
+	private int maxKeys;
+
+	@Value("${auth.rate-limit.stripes:16}")
+	private int stripes;
+
+	private final Map<Endpoint, Limits> limits = new EnumMap<>(Endpoint.class);
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		for (Endpoint endpoint : Endpoint.values()) {
+			String prefix = "auth.rate-limit." + endpoint.key + ".";
+
+			TokenBucketRateLimiter byIp = new TokenBucketRateLimiter(
+					environment.getProperty(prefix + "per-ip-capacity", Long.class, endpoint.ipCapacity),
+					environment.getProperty(prefix + "per-ip-per-minute", Long.class, endpoint.ipPerMinute),
+					maxKeys, stripes);
+
+			TokenBucketRateLimiter byEmail = new TokenBucketRateLimiter(
+					environment.getProperty(prefix + "per-email-capacity", Long.class, endpoint.emailCapacity),
+					environment.getProperty(prefix + "per-email-per-minute", Long.class, endpoint.emailPerMinute),
+					maxKeys, stripes);
+
+			if (byIp.capacity() < endpoint.maxPermits) {
+				throw new IllegalStateException(prefix + "per-ip-capacity must be at least " + endpoint.maxPermits
+						+ ", the largest request it is charged for");
+			}
+
+			// Comma-separated, e.g. 10.0.0.0/8,192.168.1.20
+			String trusted = environment.getProperty(prefix + "trusted-callers", "");
+			List<IpAddressMatcher> trustedCallers = Arrays.stream(StringUtils.commaDelimitedListToStringArray(trusted))
+														  .map(String::trim)
+														  .filter(StringUtils::hasText)
+														  .map(IpAddressMatcher::new)
+														  .toList();
+
+			limits.put(endpoint, new Limits(byIp, rejected(endpoint, "ip"), byEmail, rejected(endpoint, "email"),
+											trustedCallers));
+
+			Gauge.builder("auth.ratelimit.keys", () -> byIp.size() + byEmail.size())
+				 .description("Buckets currently tracked")
+				 .tag("endpoint", endpoint.key)
+				 .register(meterRegistry);
+
+			FunctionCounter.builder("auth.ratelimit.evicted", this, limiter -> byIp.evictionCount() + byEmail.evictionCount())
+						   .description("Buckets dropped before refilling because the bucket table was full")
+						   .tag("endpoint", endpoint.key)
+						   .register(meterRegistry);
+		}
+	}
+
+	private Counter rejected(Endpoint endpoint, String dimension) {
+		return Counter.builder("auth.ratelimit.rejected")
+					  .tag("endpoint", endpoint.key)
+					  .tag("key", dimension)
+					  .register(meterRegistry);
+	}
+
+	// @formatter:on
+
+	/**
+	 * Takes a token from the client's IP bucket and then the email's bucket for the endpoint.
+	 *
+	 * @throws TooManyRequestsException when either bucket is empty
+	 */
+	public void check(Endpoint endpoint, String clientIp, String email) {
+		if (!enabled) {
+			return;
+		}
+
+		Limits endpointLimits = limits.get(endpoint);
+		if (endpointLimits.isTrusted(clientIp)) {
+			return;
+		}
+
+		if (clientIp != null) {
+			reject(endpointLimits.byIp.tryAcquire(clientKey(clientIp)), endpointLimits.ipRejected);
+		}
+		if (email != null) {
+			reject(endpointLimits.byEmail.tryAcquire(UserLookupCache.normalize(email)), endpointLimits.emailRejected);
+		}
+	}
+
+	/**
+	 * Takes a token from the client's IP bucket and checks, without charging it, that the email's
+	 * bucket still has one. Pair with {@link #recordFailure} once the attempt is known to have failed.
+	 *
+	 * @throws TooManyRequestsException when the IP bucket is empty or the email's failures used up its bucket
+	 */
+	public void checkAttempt(Endpoint endpoint, String clientIp, String email) {
+		if (!enabled) {
+			return;
+		}
+
+		Limits endpointLimits = limits.get(endpoint);
+		if (endpointLimits.isTrusted(clientIp)) {
+			return;
+		}
+
+		if (clientIp != null) {
+			reject(endpointLimits.byIp.tryAcquire(clientKey(clientIp)), endpointLimits.ipRejected);
+		}
+		if (email != null) {
+			reject(endpointLimits.byEmail.waitTime(UserLookupCache.normalize(email)), endpointLimits.emailRejected);
+		}
+	}
+
+	// Charges the email's bucket for a failed attempt; an empty bucket just stays empty
+	public void recordFailure(Endpoint endpoint, String email) {
+		if (!enabled || email == null) {
+			return;
+		}
+
+		// Only reached after checkAttempt, which trusted callers skip as a whole
+		limits.get(endpoint).byEmail.tryAcquire(UserLookupCache.normalize(email));
+	}
+
+	/**
+	 * Takes permits tokens from the client's IP bucket for the endpoint, for requests whose cost
+	 * grows with their size.
+	 *
+	 * @throws TooManyRequestsException when the bucket holds fewer than permits tokens
+	 */
+	public void check(Endpoint endpoint, String clientIp, int permits) {
+		if (!enabled || clientIp == null) {
+			return;
+		}
+
+		Limits endpointLimits = limits.get(endpoint);
+		if (endpointLimits.isTrusted(clientIp)) {
+			return;
+		}
+
+		reject(endpointLimits.byIp.tryAcquire(clientKey(clientIp), permits), endpointLimits.ipRejected);
+	}
+
+	/**
+	 * IPv4 addresses count on their own; IPv6 clients are grouped by /64, the smallest block a
+	 * single subscriber is usually handed, so rotating through one's own prefix buys nothing.
+	 */
+	static String clientKey(String clientIp) {
+		if (clientIp.indexOf(':') < 0) {
+			return clientIp;
+		}
+
+		try {
+			// A literal, so no name lookup happens
+			InetAddress address = InetAddress.getByName(clientIp);
+			if (!(address instanceof Inet6Address)) {
+				return address.getHostAddress(); // IPv4-mapped
+			}
+
+			byte[] bytes = address.getAddress();
+			return HexFormat.of().formatHex(bytes, 0, 8) + "/64";
+		} catch (UnknownHostException e) {
+			return clientIp;
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${auth.rate-limit.sweep-interval-ms:60000}")
+	public void evictIdle() {
+		for (Limits endpointLimits : limits.values()) {
+			endpointLimits.byIp.evictIdle();
+			endpointLimits.byEmail.evictIdle();
+		}
+	}
+
+	private static void reject(long waitNanos, Counter counter) {
+		if (waitNanos > 0) {
+			counter.increment();
+			long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+			throw new TooManyRequestsException("Too many requests, please retry later", retryAfterSeconds);
+		}
+	}
+
+	private static final class Limits {
+
+		private final TokenBucketRateLimiter byIp;
+		private final Counter ipRejected;
+		private final TokenBucketRateLimiter byEmail;
+		private final Counter emailRejected;
+		private final List<IpAddressMatcher> trustedCallers;
+
+		private Limits(TokenBucketRateLimiter byIp, Counter ipRejected, TokenBucketRateLimiter byEmail,
+				Counter emailRejected, List<IpAddressMatcher> trustedCallers) {
+			this.byIp = byIp;
+			this.ipRejected = ipRejected;
+			this.byEmail = byEmail;
+			this.emailRejected = emailRejected;
+			this.trustedCallers = trustedCallers;
+		}
+
+		private boolean isTrusted(String clientIp) {
+			if (clientIp == null || trustedCallers.isEmpty()) {
+				return false;
+			}
+			for (IpAddressMatcher trustedCaller : trustedCallers) {
+				if (trustedCaller.matches(clientIp)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.util.Arrays;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 6:44:57 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Picks the BCrypt cost for this hardware: the highest cost in [minStrength, maxStrength] whose
+ * hash time stays within the target. Each cost step doubles the work, so only the minimum is
+ * timed and the rest extrapolated, then the chosen cost is timed once to confirm.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BCryptCostCalibrator {
+
+	private static final String SAMPLE_PASSWORD = "calibration-P@ssw0rd";
+	private static final int SAMPLES = 3;
+
+	public static int calibrate(long targetMs, int minStrength, int maxStrength) {
+		// Warm up the JIT first, otherwise the first sample overstates the cost
+		BCryptPasswordEncoder warmup = new BCryptPasswordEncoder(4);
+		for (int i = 0; i < 20; i++) {
+			warmup.encode(SAMPLE_PASSWORD);
+		}
+
+		double baseMs = medianHashMs(minStrength);
+		int strength = minStrength;
+		while (strength < maxStrength && baseMs * (1L << (strength + 1 - minStrength)) <= targetMs) {
+			strength++;
+		}
+
+		int measuredStrength = strength;
+		double measuredMs = strength == minStrength ? baseMs : medianHashMs(strength);
+		if (measuredMs > targetMs && strength > minStrength) {
+			strength--;
+		}
+
+		log.info("BCrypt cost {} selected for a {} ms target ({} ms per hash measured at cost {})", strength, targetMs,
+				String.format("%.1f", measuredMs), measuredStrength);
+		return strength;
+	}
+
+	private static double medianHashMs(int strength) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+		double[] samples = new double[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			long start = System.nanoTime();
+			encoder.encode(SAMPLE_PASSWORD);
+			samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+		}
+		Arrays.sort(samples);
+		return samples[SAMPLES / 2];
+	}
+}
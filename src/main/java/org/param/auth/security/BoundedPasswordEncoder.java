@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.param.auth.exception.ServiceBusyException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 6:07:15 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Runs hashing and matching of the delegate encoder on a fixed, CPU-sized pool with a bounded
+ * queue. When the queue is full, or the work cannot finish within waitTimeoutMs, the caller
+ * gets a ServiceBusyException straight away instead of another thread piling onto the CPU,
+ * so a flood of logins cannot starve cheap requests such as token refresh. The pool stays on
+ * platform threads in virtual-thread mode; callers only park on the Future, which does not pin.
+ *
+ * BCrypt does not check for interrupts, so a caller that gives up cannot stop a hash that has
+ * started; it runs to the end on its worker. Admission therefore counts work, not waiting callers:
+ * a permit (threads + queueCapacity in total) is taken on submit and returned only when the hash
+ * finishes, or straight away if the caller gave up before a worker picked the task up.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long waitTimeoutMs;
+	private final Semaphore permits;
+	private final Counter rejected;
+	private final Counter abandoned;
+
+	// @formatter:off
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitTimeoutMs,
+								  MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.waitTimeoutMs = waitTimeoutMs;
+		this.permits = new Semaphore(threads + queueCapacity);
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+											   new ArrayBlockingQueue<>(queueCapacity),
+											   new CustomizableThreadFactory("password-hash-"),
+											   new ThreadPoolExecutor.AbortPolicy());
+
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+		this.rejected = meterRegistry.counter("auth.password.hashing.rejected");
+		this.abandoned = meterRegistry.counter("auth.password.hashing.abandoned");
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private <T> T run(Callable<T> task) {
+		if (!permits.tryAcquire()) {
+			rejected.increment();
+			throw new ServiceBusyException("Server is busy, please retry shortly");
+		}
+
+		// Whoever claims the task first owns the permit: the worker that runs it, or the caller giving up
+		AtomicBoolean claimed = new AtomicBoolean();
+		Callable<T> tracked = () -> {
+			if (!claimed.compareAndSet(false, true)) {
+				return null; // abandoned while queued
+			}
+			try {
+				return task.call();
+			} finally {
+				permits.release();
+			}
+		};
+
+		Future<T> future;
+		try {
+			future = executor.submit(tracked);
+		} catch (RejectedExecutionException e) {
+			permits.release();
+			rejected.increment();
+			throw new ServiceBusyException("Server is busy, please retry shortly");
+		}
+
+		try {
+			return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			abandon(future, claimed);
+			rejected.increment();
+			throw new ServiceBusyException("Server is busy, please retry shortly");
+		} catch (InterruptedException e) {
+			abandon(future, claimed);
+			Thread.currentThread().interrupt();
+			throw new ServiceBusyException("Request interrupted");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		}
+	}
+
+	private void abandon(Future<?> future, AtomicBoolean claimed) {
+		if (claimed.compareAndSet(false, true)) {
+			// Never started: free its queue slot and permit now
+			executor.remove((Runnable) future);
+			permits.release();
+		} else {
+			// Already hashing; the permit comes back when the worker finishes
+			abandoned.increment();
+		}
+	}
+
+	// @formatter:on
+}
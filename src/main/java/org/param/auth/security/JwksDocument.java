@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 12:42:19 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Public JWK Set (RFC 7517) for the verification keys of one key set, serialized once
+ * together with its strong ETag so serving it costs no encoding work.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwksDocument {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+	// X.509 SubjectPublicKeyInfo prefix in front of the raw 32 byte Ed25519 key
+	private static final int ED25519_SPKI_PREFIX_LENGTH = 12;
+
+	private final String json;
+
+	private final String etag;
+
+	public static JwksDocument of(Collection<JwtKey> keys) {
+		try {
+			List<Map<String, Object>> jwks = keys.stream()
+					.sorted(Comparator.comparing(JwtKey::getKid))
+					.map(JwksDocument::toJwk)
+					.toList();
+
+			String json = MAPPER.writeValueAsString(Map.of("keys", jwks));
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+
+			return new JwksDocument(json, "\"" + BASE64_URL.encodeToString(digest) + "\"");
+		} catch (Exception e) {
+			throw new IllegalStateException("Failed to build JWK set", e);
+		}
+	}
+
+	private static Map<String, Object> toJwk(JwtKey key) {
+		PublicKey publicKey = key.getPublicKey();
+		Map<String, Object> jwk = new LinkedHashMap<>();
+
+		switch (key.getAlgorithm()) {
+		case RS256:
+			RSAPublicKey rsaKey = (RSAPublicKey) publicKey;
+			jwk.put("kty", "RSA");
+			jwk.put("n", base64Url(rsaKey.getModulus(), 0));
+			jwk.put("e", base64Url(rsaKey.getPublicExponent(), 0));
+			break;
+		case ES256:
+			ECPublicKey ecKey = (ECPublicKey) publicKey;
+			jwk.put("kty", "EC");
+			jwk.put("crv", "P-256");
+			jwk.put("x", base64Url(ecKey.getW().getAffineX(), 32));
+			jwk.put("y", base64Url(ecKey.getW().getAffineY(), 32));
+			break;
+		case EdDSA:
+			byte[] encoded = publicKey.getEncoded();
+			jwk.put("kty", "OKP");
+			jwk.put("crv", "Ed25519");
+			jwk.put("x", BASE64_URL.encodeToString(Arrays.copyOfRange(encoded, ED25519_SPKI_PREFIX_LENGTH, encoded.length)));
+			break;
+		}
+
+		jwk.put("kid", key.getKid());
+		jwk.put("use", "sig");
+		jwk.put("alg", key.getAlgorithm().name());
+		return jwk;
+	}
+
+	// Unsigned big-endian, left padded to length when length > 0
+	private static String base64Url(BigInteger value, int length) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		if (length > bytes.length) {
+			byte[] padded = new byte[length];
+			System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+			bytes = padded;
+		}
+		return BASE64_URL.encodeToString(bytes);
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.security.Key;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 9:58:06 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * JWS algorithms the service can sign with, paired with the JCA key type each one expects.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JwtAlgorithm {
+
+	RS256("RSA", Jwts.SIG.RS256),
+
+	ES256("EC", Jwts.SIG.ES256),
+
+	EdDSA("Ed25519", Jwts.SIG.EdDSA);
+
+	// Name understood by KeyFactory / KeyPairGenerator
+	private final String keyAlgorithm;
+
+	private final SignatureAlgorithm signatureAlgorithm;
+
+	public static JwtAlgorithm forKey(Key key) {
+		switch (key.getAlgorithm()) {
+		case "RSA":
+			return RS256;
+		case "EC":
+			return ES256;
+		case "EdDSA":
+		case "Ed25519":
+			return EdDSA;
+		default:
+			throw new IllegalArgumentException("Unsupported signing key type: " + key.getAlgorithm());
+		}
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.param.auth.util.PemKeyUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 11:31:47 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Holds the signing key and every key still accepted for verification, addressed by kid.
+ *
+ * When security.jwt.keys.directory is set, keys are read from "&lt;kid&gt;.key.pem" (PKCS#8
+ * private key, can sign) and "&lt;kid&gt;.pub.pem" (X.509 public key, verification only, or
+ * the public half of an EC / EdDSA private key). The directory is watched and reloaded in
+ * place; write new files elsewhere and move them in so a half-written PEM is never read.
+ * A reload that fails keeps the previous key set. Without a directory the single configured
+ * security.jwt.signing key is used.
+ *
+ * Unless security.jwt.keys.signing-kid names the key, the signing key is the newest private key
+ * that has been on disk (and so in the JWKS) for publish-delay-seconds, which must cover the JWKS
+ * max-age: resource servers holding a cached JWKS would otherwise reject tokens from a key they
+ * have not seen. A newer key is promoted by the watcher once its delay has passed. When no key has
+ * been published that long (a first deployment) the newest one signs straight away.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+	private static final String PRIVATE_KEY_SUFFIX = ".key.pem";
+	private static final String PUBLIC_KEY_SUFFIX = ".pub.pem";
+
+	@Value("${security.jwt.signing.algorithm:RS256}")
+	private JwtAlgorithm signingAlgorithm;
+
+	@Value("${security.jwt.signing.private-key:classpath:private_key.pem}")
+	private String privateKeyLocation;
+
+	// Required for ES256 / EdDSA, derived from the private key for RS256
+	@Value("${security.jwt.signing.public-key:}")
+	private String publicKeyLocation;
+
+	@Value("${security.jwt.keys.directory:}")
+	private String keyDirectory;
+
+	// Defaults to the newest published private key in the directory, or the thumbprint of the configured key
+	@Value("${security.jwt.keys.signing-kid:}")
+	private String signingKid;
+
+	@Value("${security.jwt.keys.publish-delay-seconds:${security.jwt.jwks.max-age-seconds:300}}")
+	private long publishDelaySeconds;
+
+	@Value("${security.jwt.keys.reload-delay-ms:500}")
+	private long reloadDelayMs;
+
+	private volatile JwtKeySet keySet;
+
+	// When a newer private key becomes eligible to sign; null when none is waiting
+	private volatile Instant pendingPromotion;
+
+	private Clock clock = Clock.systemUTC();
+
+	private final List<Consumer<JwtKeySet>> reloadListeners = new CopyOnWriteArrayList<>();
+
+	private Thread watcher;
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		try {
+			if (StringUtils.hasText(keyDirectory)) {
+				Path directory = Paths.get(keyDirectory);
+				this.keySet = loadDirectory(directory);
+				startWatcher(directory);
+			} else {
+				this.keySet = loadConfiguredKey();
+			}
+			log.info("Loaded JWT keys {}, signing with kid {}", keySet.getKeys().keySet(), keySet.getSigningKey().getKid());
+		} catch (Exception e) {
+			log.error("Failed to load JWT signing keys", e);
+			throw new IllegalStateException("Invalid JWT signing key configuration", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (watcher != null) {
+			watcher.interrupt();
+		}
+	}
+
+	public JwtKeySet current() {
+		return keySet;
+	}
+
+	public JwtKey signingKey() {
+		return keySet.getSigningKey();
+	}
+
+	// Called with the new key set after every successful hot reload
+	public void addReloadListener(Consumer<JwtKeySet> listener) {
+		reloadListeners.add(listener);
+	}
+
+	// null when the kid is unknown or has been retired
+	public JwtKey verificationKey(String kid) {
+		return keySet.find(kid);
+	}
+
+	private JwtKeySet loadConfiguredKey() throws Exception {
+		String keyAlgorithm = signingAlgorithm.getKeyAlgorithm();
+
+		PrivateKey privateKey = PemKeyUtil.readPrivateKey(readPem(privateKeyLocation), keyAlgorithm);
+		PublicKey publicKey = StringUtils.hasText(publicKeyLocation)
+									? PemKeyUtil.readPublicKey(readPem(publicKeyLocation), keyAlgorithm)
+									: PemKeyUtil.derivePublicKey(privateKey);
+
+		String kid = StringUtils.hasText(signingKid) ? signingKid : thumbprint(publicKey);
+		JwtKey key = new JwtKey(kid, signingAlgorithm, privateKey, publicKey);
+
+		return new JwtKeySet(Map.of(kid, key), key);
+	}
+
+	private JwtKeySet loadDirectory(Path directory) throws Exception {
+		Map<String, PrivateKey> privateKeys = new HashMap<>();
+		Map<String, PublicKey> publicKeys = new HashMap<>();
+		Map<String, Instant> writtenAt = new HashMap<>();
+
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.pem")) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+
+				if (name.endsWith(PRIVATE_KEY_SUFFIX)) {
+					String kid = name.substring(0, name.length() - PRIVATE_KEY_SUFFIX.length());
+					privateKeys.put(kid, PemKeyUtil.readPrivateKey(Files.readString(file)));
+					writtenAt.put(kid, Files.getLastModifiedTime(file).toInstant());
+				} else if (name.endsWith(PUBLIC_KEY_SUFFIX)) {
+					String kid = name.substring(0, name.length() - PUBLIC_KEY_SUFFIX.length());
+					publicKeys.put(kid, PemKeyUtil.readPublicKey(Files.readString(file)));
+				}
+			}
+		}
+
+		Set<String> kids = new HashSet<>(privateKeys.keySet());
+		kids.addAll(publicKeys.keySet());
+
+		Map<String, JwtKey> keys = new HashMap<>();
+		for (String kid : kids) {
+			PrivateKey privateKey = privateKeys.get(kid);
+			PublicKey publicKey = publicKeys.containsKey(kid) ? publicKeys.get(kid) : PemKeyUtil.derivePublicKey(privateKey);
+			keys.put(kid, new JwtKey(kid, JwtAlgorithm.forKey(publicKey), privateKey, publicKey));
+		}
+
+		String currentKid = StringUtils.hasText(signingKid) ? signingKid : newestPublishedKid(writtenAt);
+		JwtKey signingKey = currentKid == null ? null : keys.get(currentKid);
+
+		if (signingKey == null || !signingKey.canSign()) {
+			throw new IllegalStateException("No private key for signing kid " + currentKid + " in " + directory);
+		}
+
+		this.pendingPromotion = StringUtils.hasText(signingKid) ? null : nextPromotion(writtenAt, writtenAt.get(currentKid));
+		return new JwtKeySet(keys, signingKey);
+	}
+
+	private String newestPublishedKid(Map<String, Instant> writtenAt) {
+		Instant publishedBefore = clock.instant().minusSeconds(publishDelaySeconds);
+
+		String newestPublished = null;
+		String newest = null;
+		for (Map.Entry<String, Instant> entry : writtenAt.entrySet()) {
+			Instant written = entry.getValue();
+			if (newest == null || written.isAfter(writtenAt.get(newest))) {
+				newest = entry.getKey();
+			}
+			if (!written.isAfter(publishedBefore)
+					&& (newestPublished == null || written.isAfter(writtenAt.get(newestPublished)))) {
+				newestPublished = entry.getKey();
+			}
+		}
+		return newestPublished != null ? newestPublished : newest;
+	}
+
+	// Earliest moment a key newer than the current signing key has been published long enough
+	private Instant nextPromotion(Map<String, Instant> writtenAt, Instant currentWrittenAt) {
+		Instant next = null;
+		for (Instant written : writtenAt.values()) {
+			Instant eligibleAt = written.plusSeconds(publishDelaySeconds);
+			if (written.isAfter(currentWrittenAt) && (next == null || eligibleAt.isBefore(next))) {
+				next = eligibleAt;
+			}
+		}
+		return next;
+	}
+
+	private void startWatcher(Path directory) {
+		watcher = new Thread(() -> watch(directory), "jwt-key-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	private void watch(Path directory) {
+		try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+			directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+			while (!Thread.currentThread().isInterrupted()) {
+				Instant promotion = pendingPromotion;
+				WatchKey watchKey = promotion == null ? watchService.take()
+						: watchService.poll(Math.max(1, Duration.between(clock.instant(), promotion).toMillis()), TimeUnit.MILLISECONDS);
+
+				if (watchKey == null) {
+					// No file changed, but a waiting key is now old enough to sign
+					reload(directory);
+					continue;
+				}
+
+				// Coalesce a burst of events (copy + rename, several files) into one reload
+				Thread.sleep(reloadDelayMs);
+				watchKey.pollEvents();
+
+				reload(directory);
+
+				if (!watchKey.reset()) {
+					log.warn("JWT key directory {} is no longer accessible, hot reload stopped", directory);
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			log.error("Failed to watch JWT key directory {}", directory, e);
+		}
+	}
+
+	private void reload(Path directory) {
+		try {
+			JwtKeySet reloaded = loadDirectory(directory);
+			this.keySet = reloaded;
+			reloadListeners.forEach(listener -> listener.accept(reloaded));
+			log.info("Reloaded JWT keys {}, signing with kid {}", reloaded.getKeys().keySet(), reloaded.getSigningKey().getKid());
+		} catch (Exception e) {
+			log.warn("JWT key reload failed, keeping kids {}", keySet.getKeys().keySet(), e);
+
+			// Retry a due promotion later instead of spinning on the same failure
+			Instant promotion = pendingPromotion;
+			if (promotion != null && !promotion.isAfter(clock.instant())) {
+				this.pendingPromotion = clock.instant().plusMillis(Math.max(reloadDelayMs, 1_000));
+			}
+		}
+	}
+
+	private String readPem(String location) throws IOException {
+		try (InputStream inputStream = new DefaultResourceLoader().getResource(location).getInputStream()) {
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private String thumbprint(PublicKey publicKey) throws Exception {
+		byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 16);
+	}
+	
+	// @formatter:on
+}
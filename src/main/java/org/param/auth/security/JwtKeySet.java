@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 11:24:02 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Immutable snapshot of the key ring. A reload builds a new snapshot and swaps it in whole,
+ * so readers always see a consistent signing key and verification map.
+ */
+@Getter
+public final class JwtKeySet {
+
+	private final Map<String, JwtKey> keys;
+
+	private final JwtKey signingKey;
+
+	private final JwksDocument jwks;
+
+	public JwtKeySet(Map<String, JwtKey> keys, JwtKey signingKey) {
+		this.keys = Map.copyOf(keys);
+		this.signingKey = signingKey;
+		this.jwks = JwksDocument.of(this.keys.values());
+	}
+
+	/**
+	 * Tokens minted before kid headers were introduced carry no kid; they can only have
+	 * been signed by the current signing key.
+	 */
+	public JwtKey find(String kid) {
+		return kid == null ? signingKey : keys.get(kid);
+	}
+}
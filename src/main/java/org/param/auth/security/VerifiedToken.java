@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.time.Instant;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 9:12:40 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Immutable result of a single signature verification. Everything callers need
+ * from a token is read once here, so the token never has to be parsed again.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedToken {
+
+	private final String subject;
+
+	private final Set<String> roles;
+
+	private final Instant issuedAt;
+
+	private final Instant expiresAt;
+
+	// False for refresh JWTs, which are marked with token_use and a jti
+	private final boolean accessToken;
+
+	public static VerifiedToken of(String subject, Set<String> roles, Instant issuedAt, Instant expiresAt,
+			boolean accessToken) {
+		return new VerifiedToken(subject, roles == null ? Set.of() : Set.copyOf(roles), issuedAt, expiresAt,
+				accessToken);
+	}
+
+	public boolean isExpired(Instant now) {
+		return !expiresAt.isAfter(now);
+	}
+}
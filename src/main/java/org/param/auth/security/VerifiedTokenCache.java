@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 3:01:27 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Remembers tokens whose signature has already been verified, keyed by the SHA-256 of the
+ * token so a repeat check costs a hash and a map lookup. Entries expire with the token itself
+ * and the whole cache is dropped when the key ring changes, so a retired key stops being
+ * honoured immediately. Only successful verifications are cached.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final MeterRegistry meterRegistry;
+	private final JwtKeyRing keyRing;
+
+	@Value("${security.jwt.verification-cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${security.jwt.verification-cache.max-size:100000}")
+	private long maxSize;
+
+	private Clock clock = Clock.systemUTC();
+
+	private Cache<ByteBuffer, VerifiedToken> cache;
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		this.cache = Caffeine.newBuilder()
+							 .maximumSize(maxSize)
+							 .expireAfter(new TokenExpiry(clock))
+							 .recordStats()
+							 .build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verification");
+		keyRing.addReloadListener(keySet -> cache.invalidateAll());
+	}
+
+	public Optional<VerifiedToken> verify(String token, Function<String, Optional<VerifiedToken>> verifier) {
+		if (!enabled || token == null) {
+			return verifier.apply(token);
+		}
+
+		ByteBuffer key = digest(token);
+		VerifiedToken cached = cache.getIfPresent(key);
+
+		if (cached != null) {
+			// Eviction runs on Caffeine's ticker; never answer from an entry past its exp
+			if (!cached.isExpired(clock.instant())) {
+				return Optional.of(cached);
+			}
+			cache.invalidate(key);
+		}
+
+		Optional<VerifiedToken> verified = verifier.apply(token);
+		verified.ifPresent(verifiedToken -> cache.put(key, verifiedToken));
+		return verified;
+	}
+
+	private ByteBuffer digest(String token) {
+		return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+		private final Clock clock;
+
+		private TokenExpiry(Clock clock) {
+			this.clock = clock;
+		}
+
+		@Override
+		public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+			return Math.max(0, Duration.between(clock.instant(), token.getExpiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+	// @formatter:on
+}
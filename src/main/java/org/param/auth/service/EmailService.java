@@ -15,6 +15,10 @@
  */
 package org.param.auth.service;
 
+import java.util.List;
+
+import org.param.auth.dto.EmailMessage;
+
 /**
  * Author: PARAMESHWARAN PV
  * Date: 27-Jun-2025 : 2:37:28 AM
@@ -26,4 +30,7 @@ public interface EmailService {
 
 	public void sendEmail(String to, String subject, String body);
 
+	// Sends over a single SMTP session; throws EmailDeliveryException listing the messages that failed
+	public void sendEmails(List<EmailMessage> messages);
+
 }
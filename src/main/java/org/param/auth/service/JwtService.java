@@ -15,8 +15,12 @@
  */
 package org.param.auth.service;
 
+import java.util.Optional;
 import java.util.Set;
 
+import org.param.auth.security.JwksDocument;
+import org.param.auth.security.VerifiedToken;
+
 import io.jsonwebtoken.Claims;
 
 /**
@@ -34,6 +38,9 @@ public interface JwtService {
 
 	String generateRefreshToken(String username);
 
+	// Verifies signature and expiry once; empty when the token is not acceptable
+	Optional<VerifiedToken> verify(String token);
+
 	boolean isTokenValid(String token);
 
 	String extractUsername(String token);
@@ -44,4 +51,6 @@ public interface JwtService {
 
 	Long getExpriesIn();
 
+	JwksDocument getJwks();
+
 }
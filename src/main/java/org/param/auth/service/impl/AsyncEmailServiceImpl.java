@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.param.auth.dto.EmailMessage;
+import org.param.auth.exception.EmailDeliveryException;
+import org.param.auth.service.EmailService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 4:18:52 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Queues mail and returns immediately so request threads never wait on SMTP. Sender workers
+ * drain the queue in batches, each batch going out over one SMTP session, and retry failed
+ * messages with exponential backoff. Enabled with auth.mail.async.enabled=true, otherwise
+ * EmailServiceImpl sends inline.
+ *
+ * Workers are platform threads on purpose: Jakarta Mail's SMTPTransport synchronizes around
+ * socket I/O, which pins a virtual thread to its carrier for the whole SMTP exchange. With
+ * spring.threads.virtual.enabled this keeps request threads unpinned.
+ *
+ * A full queue never fails the caller: forgot-password must answer the same whether or not
+ * a mail was produced, so the overflow policy only chooses which message is given up on.
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.mail.async.enabled", havingValue = "true")
+public class AsyncEmailServiceImpl implements EmailService {
+
+	public enum OverflowPolicy {
+		// discard the message being submitted
+		DROP_NEWEST,
+		// discard the longest waiting message to make room
+		DROP_OLDEST,
+		// send on the calling thread, the pre-async behaviour
+		CALLER_RUNS
+	}
+
+	private final EmailServiceImpl smtpEmailService;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auth.mail.async.queue-capacity:1000}")
+	private int queueCapacity;
+
+	@Value("${auth.mail.async.workers:2}")
+	private int workerCount;
+
+	@Value("${auth.mail.async.batch-size:20}")
+	private int batchSize;
+
+	@Value("${auth.mail.async.max-attempts:4}")
+	private int maxAttempts;
+
+	@Value("${auth.mail.async.initial-backoff-ms:500}")
+	private long initialBackoffMs;
+
+	@Value("${auth.mail.async.max-backoff-ms:30000}")
+	private long maxBackoffMs;
+
+	@Value("${auth.mail.async.overflow-policy:DROP_NEWEST}")
+	private OverflowPolicy overflowPolicy;
+
+	@Value("${auth.mail.async.shutdown-timeout-ms:10000}")
+	private long shutdownTimeoutMs;
+
+	private BlockingQueue<EmailMessage> queue;
+	private ExecutorService workers;
+	private volatile boolean running;
+
+	private Timer sendTimer;
+	private Counter sentCounter;
+	private Counter failedCounter;
+	private Counter droppedCounter;
+
+	// @formatter:off
+
+	@PostConstruct
+	public void init() {
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+		Gauge.builder("auth.mail.queue.depth", queue, BlockingQueue::size)
+			 .description("Emails waiting for a sender worker")
+			 .register(meterRegistry);
+		this.sendTimer = Timer.builder("auth.mail.send.latency")
+							  .description("SMTP time per batch")
+							  .publishPercentiles(0.5, 0.99)
+							  .register(meterRegistry);
+		this.sentCounter = meterRegistry.counter("auth.mail.sent");
+		this.failedCounter = meterRegistry.counter("auth.mail.failed");
+		this.droppedCounter = meterRegistry.counter("auth.mail.dropped");
+
+		this.running = true;
+		this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("email-sender-"));
+		for (int i = 0; i < workerCount; i++) {
+			workers.execute(this::drain);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		workers.shutdown();
+		if (!workers.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+			log.warn("Email dispatcher stopped with {} message(s) still queued", queue.size());
+			workers.shutdownNow();
+		}
+	}
+
+	@Override
+	public void sendEmail(String to, String subject, String body) {
+		enqueue(new EmailMessage(to, subject, body));
+	}
+
+	@Override
+	public void sendEmails(List<EmailMessage> messages) {
+		messages.forEach(this::enqueue);
+	}
+
+	private void enqueue(EmailMessage message) {
+		if (queue.offer(message)) {
+			return;
+		}
+
+		switch (overflowPolicy) {
+		case DROP_OLDEST:
+			while (!queue.offer(message)) {
+				if (queue.poll() != null) {
+					droppedCounter.increment();
+				}
+			}
+			break;
+		case CALLER_RUNS:
+			sendWithRetry(List.of(message));
+			break;
+		default:
+			droppedCounter.increment();
+			// No recipient in the log: it would put user addresses into log storage
+			log.warn("Email queue full ({}), dropping mail", queueCapacity);
+		}
+	}
+
+	private void drain() {
+		List<EmailMessage> batch = new ArrayList<>(batchSize);
+
+		// Keep going after shutdown is requested until the queue is empty
+		while (running || !queue.isEmpty()) {
+			try {
+				EmailMessage first = queue.poll(200, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				sendWithRetry(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("Email sender worker failed on a batch of {}", batch.size(), e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void sendWithRetry(List<EmailMessage> batch) {
+		List<EmailMessage> pending = batch;
+		long backoffMs = initialBackoffMs;
+
+		for (int attempt = 1; ; attempt++) {
+			long start = System.nanoTime();
+			try {
+				smtpEmailService.sendEmails(pending);
+				sentCounter.increment(pending.size());
+				return;
+			} catch (EmailDeliveryException e) {
+				sentCounter.increment(pending.size() - e.getFailedMessages().size());
+				pending = e.getFailedMessages();
+
+				if (attempt >= maxAttempts) {
+					failedCounter.increment(pending.size());
+					log.error("Giving up on {} email(s) after {} attempts", pending.size(), attempt, e);
+					return;
+				}
+				log.warn("Failed to send {} email(s), attempt {} of {}, retrying in {} ms", pending.size(), attempt, maxAttempts, backoffMs);
+			} finally {
+				sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+
+			try {
+				Thread.sleep(backoffMs);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failedCounter.increment(pending.size());
+				return;
+			}
+			backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+		}
+	}
+
+	// @formatter:on
+}
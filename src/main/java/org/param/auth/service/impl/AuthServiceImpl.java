@@ -15,30 +15,48 @@
  */
 package org.param.auth.service.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.param.auth.cache.EmailExistenceFilter;
+import org.param.auth.cache.UserLookupCache;
+import org.param.auth.cache.UserSnapshot;
 import org.param.auth.dto.AuthResponse;
 import org.param.auth.dto.ForgotPasswordRequest;
 import org.param.auth.dto.LoginRequest;
 import org.param.auth.dto.RefreshTokenRequest;
+import org.param.auth.dto.RefreshTokenRow;
 import org.param.auth.dto.RegisterRequest;
 import org.param.auth.dto.ResetPasswordRequest;
 import org.param.auth.exception.InvalidCredentialsException;
-import org.param.auth.exception.InvalidOtpException;
 import org.param.auth.exception.InvalidTokenException;
+import org.param.auth.exception.ServiceBusyException;
 import org.param.auth.exception.UserAlreadyExistsException;
 import org.param.auth.exception.UserNotFoundException;
-import org.param.auth.model.OtpToken;
+import org.param.auth.jfr.AuthEvents;
+import org.param.auth.jfr.LoginEvent;
+import org.param.auth.jfr.PasswordHashEvent;
+import org.param.auth.metrics.AuthMetrics;
+import org.param.auth.metrics.AuthOperation;
+import org.param.auth.metrics.AuthPhase;
 import org.param.auth.model.RefreshToken;
 import org.param.auth.model.User;
-import org.param.auth.repository.OtpTokenRepository;
+import org.param.auth.otp.OtpStore;
 import org.param.auth.repository.RefreshTokenRepository;
 import org.param.auth.repository.UserRepository;
+import org.param.auth.security.VerifiedToken;
 import org.param.auth.service.AuthService;
 import org.param.auth.service.EmailService;
 import org.param.auth.service.JwtService;
 import org.param.auth.util.EmailFormatter;
-import org.param.auth.util.OtpUtil;
+import org.param.auth.util.OpaqueTokenUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -59,115 +77,245 @@ public class AuthServiceImpl implements AuthService {
 
 	private final UserRepository userRepository;
 	private final RefreshTokenRepository refreshTokenRepository;
-	private final OtpTokenRepository otpTokenRepository;
 	private final JwtService jwtService;
 	private final PasswordEncoder passwordEncoder;
 	private final EmailService emailService;
+	private final OtpStore otpStore;
+	private final UserLookupCache userLookupCache;
+	private final EmailExistenceFilter emailExistenceFilter;
+	private final AuthMetrics authMetrics;
+
+	public enum RefreshTokenMode {
+		// RS256-signed JWT, verified and then matched against the stored token
+		JWT,
+		// 256-bit random value; only its SHA-256 is stored and looked up directly
+		OPAQUE
+	}
 
-	private final int OTP_EXPIRY_MINUTES = 10;
+	@Value("${security.jwt.refresh-token.mode:JWT}")
+	private RefreshTokenMode refreshTokenMode;
+
+	@Value("${security.jwt.refresh-token.expiration-ms}")
+	private long refreshTokenValidity;
 
 	@Override
 	public void register(RegisterRequest request) {
-		if (userRepository.existsByEmail(request.getEmail())) {
+		authMetrics.time(AuthOperation.REGISTER, () -> doRegister(request));
+	}
+
+	private void doRegister(RegisterRequest request) {
+		String email = request.getEmail();
+
+		// A definite miss skips the existence query; the unique index still guards the insert
+		boolean exists = authMetrics.time(AuthPhase.REGISTER_EXISTS_CHECK,
+				() -> emailExistenceFilter.mightExist(email) && userRepository.existsByEmail(email));
+		if (exists) {
 			throw new UserAlreadyExistsException("Email already registered");
 		}
 
-		User user = User.builder().email(request.getEmail()).password(passwordEncoder.encode(request.getPassword()))
-				.fullName(request.getFullName()).mobileNo(request.getMobileNo()).roles(request.getRoles())
-				.isVerified(true).build();
+		String passwordHash = authMetrics.time(AuthPhase.REGISTER_HASH, () -> hashPassword(request.getPassword()));
+
+		User user = User.builder().email(email).password(passwordHash).fullName(request.getFullName())
+				.mobileNo(request.getMobileNo()).roles(request.getRoles()).isVerified(true).build();
 
-		userRepository.save(user);
+		authMetrics.time(AuthPhase.REGISTER_INSERT, () -> insertUser(user));
+
+		emailExistenceFilter.add(email);
+		userLookupCache.invalidate(email);
+	}
+
+	private void insertUser(User user) {
+		try {
+			userRepository.save(user);
+		} catch (DataIntegrityViolationException e) {
+			// Lost a race with a concurrent registration, or another unique column clashed
+			if (userRepository.existsByEmail(user.getEmail())) {
+				throw new UserAlreadyExistsException("Email already registered");
+			}
+			throw e;
+		}
 	}
 
 	@Override
 	public AuthResponse login(LoginRequest request) {
-		User user = userRepository.findByEmail(request.getEmail())
+		return AuthEvents.record(new LoginEvent(), () -> authMetrics.time(AuthOperation.LOGIN, () -> doLogin(request)));
+	}
+
+	private AuthResponse doLogin(LoginRequest request) {
+		UserSnapshot user = authMetrics.time(AuthPhase.LOGIN_LOOKUP, () -> userLookupCache.findByEmail(request.getEmail()))
 				.orElseThrow(() -> new InvalidCredentialsException("Invalid credentials"));
 
-		if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+		// Id and roles may come from the cache, the hash never does: a snapshot can predate a reset
+		// made on another instance, and the old password must stop working the moment it is replaced
+		String passwordHash = authMetrics.time(AuthPhase.LOGIN_HASH_LOOKUP,
+				() -> userRepository.findPasswordHashByEmail(user.getEmail()))
+				.orElseThrow(() -> new InvalidCredentialsException("Invalid credentials"));
+
+		boolean matches = authMetrics.time(AuthPhase.LOGIN_PASSWORD_MATCH,
+				() -> matchPassword(request.getPassword(), passwordHash));
+		if (!matches) {
 			throw new InvalidCredentialsException("Invalid credentials");
 		}
 
-		String accessToken = jwtService.generateAccessToken(user.getEmail(), user.getRoles());
-		String refreshTokenStr = jwtService.generateRefreshToken(user.getEmail());
+		authMetrics.time(AuthPhase.LOGIN_REHASH, () -> rehashIfNeeded(user, passwordHash, request.getPassword()));
 
-		// Save or update refresh token in DB
-		RefreshToken refreshToken = refreshTokenRepository.findByUser(user)
-				.orElse(RefreshToken.builder().user(user).build());
+		String accessToken = authMetrics.time(AuthPhase.LOGIN_SIGN,
+				() -> jwtService.generateAccessToken(user.getEmail(), user.getRoles()));
 
-		refreshToken.setToken(refreshTokenStr);
-		refreshToken.setExpiryDate(LocalDateTime.now().plusDays(7));
-		refreshTokenRepository.save(refreshToken);
+		String refreshTokenStr = authMetrics.time(AuthPhase.LOGIN_REFRESH_ISSUE,
+				() -> refreshTokenMode == RefreshTokenMode.OPAQUE ? OpaqueTokenUtil.generateToken()
+						: jwtService.generateRefreshToken(user.getEmail()));
+
+		authMetrics.time(AuthPhase.LOGIN_TOKEN_UPSERT, () -> saveRefreshToken(user.getId(), refreshTokenStr));
 
 		return new AuthResponse(accessToken, refreshTokenStr);
 	}
 
+	private void saveRefreshToken(long userId, String refreshTokenStr) {
+		String storedToken = refreshTokenMode == RefreshTokenMode.OPAQUE ? OpaqueTokenUtil.hash(refreshTokenStr)
+				: refreshTokenStr;
+
+		// Save or update refresh token in DB; the reference proxy avoids reloading the user row
+		User userRef = userRepository.getReferenceById(userId);
+		RefreshToken refreshToken = refreshTokenRepository.findByUser(userRef)
+				.orElse(RefreshToken.builder().user(userRef).build());
+
+		refreshToken.setToken(storedToken);
+		refreshToken.setExpiryDate(LocalDateTime.now().plus(Duration.ofMillis(refreshTokenValidity)));
+		refreshTokenRepository.save(refreshToken);
+	}
+
 	@Override
 	public AuthResponse refreshToken(RefreshTokenRequest request) {
+		return authMetrics.time(AuthOperation.REFRESH_TOKEN, () -> doRefreshToken(request));
+	}
+
+	private AuthResponse doRefreshToken(RefreshTokenRequest request) {
 		String refreshTokenStr = request.getRefreshToken();
+		if (refreshTokenStr == null) {
+			throw new InvalidTokenException("Invalid refresh token");
+		}
+
+		// Dispatch on shape rather than mode, so tokens issued before a mode switch keep working
+		if (refreshTokenStr.indexOf('.') < 0) {
+			return refreshOpaqueToken(refreshTokenStr);
+		}
 
-		if (!jwtService.isTokenValid(refreshTokenStr)) {
+		VerifiedToken verifiedToken = authMetrics.time(AuthPhase.REFRESH_VERIFY, () -> jwtService.verify(refreshTokenStr))
+				.orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+		// Token, expiry and roles in one statement, one row per role
+		List<RefreshTokenRow> rows = authMetrics.time(AuthPhase.REFRESH_LOOKUP,
+				() -> refreshTokenRepository.findRowsByUserEmail(verifiedToken.getSubject()));
+		if (rows.isEmpty()) {
+			throw new InvalidTokenException("Refresh token not found");
+		}
+
+		return reissueAccessToken(rows, refreshTokenStr, refreshTokenStr);
+	}
+
+	private AuthResponse refreshOpaqueToken(String refreshTokenStr) {
+		String storedToken = OpaqueTokenUtil.hash(refreshTokenStr);
+
+		List<RefreshTokenRow> rows = authMetrics.time(AuthPhase.REFRESH_LOOKUP,
+				() -> refreshTokenRepository.findRowsByToken(storedToken));
+		if (rows.isEmpty()) {
 			throw new InvalidTokenException("Invalid refresh token");
 		}
 
-		String email = jwtService.extractUsername(refreshTokenStr);
-		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("User not found"));
+		return reissueAccessToken(rows, storedToken, refreshTokenStr);
+	}
 
-		RefreshToken refreshToken = refreshTokenRepository.findByUser(user)
-				.orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
+	private AuthResponse reissueAccessToken(List<RefreshTokenRow> rows, String storedToken, String refreshTokenStr) {
+		RefreshTokenRow row = rows.get(0);
 
-		if (!refreshToken.getToken().equals(refreshTokenStr)
-				|| refreshToken.getExpiryDate().isBefore(LocalDateTime.now())) {
+		if (!row.getToken().equals(storedToken) || row.getExpiryDate().isBefore(LocalDateTime.now())) {
 			throw new InvalidTokenException("Refresh token expired or invalid");
 		}
 
-		String newAccessToken = jwtService.generateAccessToken(email, user.getRoles());
+		Set<String> roles = rows.stream().map(RefreshTokenRow::getRole).filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+
+		String newAccessToken = authMetrics.time(AuthPhase.REFRESH_SIGN,
+				() -> jwtService.generateAccessToken(row.getEmail(), roles));
 
 		return new AuthResponse(newAccessToken, refreshTokenStr); // reuse existing refresh token
 	}
 
 	@Override
 	public void forgotPassword(ForgotPasswordRequest request) {
-		String email = request.getEmail();
+		authMetrics.time(AuthOperation.FORGOT_PASSWORD, () -> doForgotPassword(request));
+	}
 
-		// Always respond same, no user enumeration
-		userRepository.findByEmail(email).ifPresent(user -> {
-			// Generate OTP
-			String otp = OtpUtil.generateOtp();
+	private void doForgotPassword(ForgotPasswordRequest request) {
+		String email = request.getEmail();
 
-			// In prod: hash OTP before storing (omitted here for clarity)
-			OtpToken otpToken = OtpToken.builder().email(email).otp(otp)
-					.expiryTime(LocalDateTime.now().plusMinutes(OTP_EXPIRY_MINUTES)).used(false).build();
+		// Always respond same, no user enumeration. No email filter here: its misses only reflect this
+		// instance, and a user who registered on another one would silently get no code
+		Optional<UserSnapshot> user = authMetrics.time(AuthPhase.FORGOT_LOOKUP, () -> userLookupCache.findByEmail(email));
 
-			otpTokenRepository.save(otpToken);
+		if (user.isPresent()) {
+			String otp = authMetrics.time(AuthPhase.FORGOT_OTP_ISSUE, () -> otpStore.issue(email));
 
 			// Send OTP via email (async recommended)
 			String message = EmailFormatter.buildOtpMessage(otp);
-			emailService.sendEmail(email, "Password Reset OTP", message);
-		});
+			authMetrics.time(AuthPhase.FORGOT_EMAIL_SEND,
+					() -> emailService.sendEmail(email, "Password Reset OTP", message));
+		}
 	}
 
 	@Override
 	public void resetPassword(ResetPasswordRequest request) {
-		OtpToken otpToken = otpTokenRepository.findTopByEmailOrderByExpiryTimeDesc(request.getEmail())
-				.orElseThrow(() -> new InvalidOtpException("Invalid OTP"));
-
-		if (otpToken.isUsed() || otpToken.getExpiryTime().isBefore(LocalDateTime.now())) {
-			throw new InvalidOtpException("OTP expired or already used");
-		}
+		authMetrics.time(AuthOperation.RESET_PASSWORD, () -> doResetPassword(request));
+	}
 
-		if (!otpToken.getOtp().equals(request.getOtp())) {
-			throw new InvalidOtpException("Invalid OTP");
-		}
+	private void doResetPassword(ResetPasswordRequest request) {
+		// Checked before hashing, so the BCrypt cost is only paid for a valid code
+		authMetrics.time(AuthPhase.RESET_OTP_CHECK, () -> otpStore.check(request.getEmail(), request.getOtp()));
 
-		User user = userRepository.findByEmail(request.getEmail())
+		User user = authMetrics.time(AuthPhase.RESET_LOOKUP, () -> userRepository.findByEmail(request.getEmail()))
 				.orElseThrow(() -> new UserNotFoundException("User not found"));
 
-		user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-		userRepository.save(user);
+		String passwordHash = authMetrics.time(AuthPhase.RESET_HASH, () -> hashPassword(request.getNewPassword()));
+		user.setPassword(passwordHash);
+
+		// Redeemed only now, so a 503 from the hashing pool or a failed lookup leaves the code usable
+		authMetrics.time(AuthPhase.RESET_OTP_CONSUME, () -> otpStore.consume(request.getEmail(), request.getOtp()));
+
+		authMetrics.time(AuthPhase.RESET_UPDATE, () -> {
+			userRepository.save(user);
+		});
+		userLookupCache.invalidate(user.getEmail());
+	}
+
+	private String hashPassword(String rawPassword) {
+		PasswordHashEvent event = new PasswordHashEvent();
+		event.operation = "hash";
+		return AuthEvents.record(event, () -> passwordEncoder.encode(rawPassword));
+	}
+
+	private boolean matchPassword(String rawPassword, String passwordHash) {
+		PasswordHashEvent event = new PasswordHashEvent();
+		event.operation = "match";
+		return AuthEvents.record(event, () -> passwordEncoder.matches(rawPassword, passwordHash));
+	}
 
-		otpToken.setUsed(true);
-		otpTokenRepository.save(otpToken);
+	// Move the stored hash to the current BCrypt cost while the plain password is at hand
+	private void rehashIfNeeded(UserSnapshot snapshot, String passwordHash, String rawPassword) {
+		if (!passwordEncoder.upgradeEncoding(passwordHash)) {
+			return;
+		}
+
+		try {
+			String rehashed = hashPassword(rawPassword);
+			// Only replaces the hash that was just verified; a concurrent reset wins
+			if (userRepository.updatePasswordIfUnchanged(snapshot.getId(), passwordHash, rehashed) == 1) {
+				userLookupCache.invalidate(snapshot.getEmail());
+			}
+		} catch (ServiceBusyException e) {
+			// Best effort, the next login tries again
+			log.debug("Skipped password rehash for user {}, hashing pool busy", snapshot.getId());
+		}
 	}
 
 }
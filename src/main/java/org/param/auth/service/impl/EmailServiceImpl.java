@@ -15,7 +15,18 @@
  */
 package org.param.auth.service.impl;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.param.auth.dto.EmailMessage;
+import org.param.auth.exception.EmailDeliveryException;
+import org.param.auth.jfr.AuthEvents;
+import org.param.auth.jfr.EmailSendEvent;
 import org.param.auth.service.EmailService;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -41,19 +52,65 @@ public class EmailServiceImpl implements EmailService {
 
 	@Override
 	public void sendEmail(String to, String subject, String body) {
+		EmailSendEvent event = new EmailSendEvent();
+		event.messages = 1;
+		AuthEvents.record(event, () -> send(to, subject, body));
+	}
 
+	private void send(String to, String subject, String body) {
 		try {
-			MimeMessage message = mailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+			mailSender.send(createMessage(to, subject, body));
+		} catch (MessagingException e) {
+			throw new RuntimeException("Failed to send email", e);
+		}
+	}
+
+	@Override
+	public void sendEmails(List<EmailMessage> messages) {
+		EmailSendEvent event = new EmailSendEvent();
+		event.messages = messages.size();
+		AuthEvents.record(event, () -> send(messages));
+	}
 
-			helper.setTo(to);
-			helper.setSubject(subject);
-			helper.setText(body, false);
+	private void send(List<EmailMessage> messages) {
+		MimeMessage[] mimeMessages = new MimeMessage[messages.size()];
+		Map<MimeMessage, EmailMessage> originals = new IdentityHashMap<>();
 
-			mailSender.send(message);
+		try {
+			for (int i = 0; i < mimeMessages.length; i++) {
+				EmailMessage email = messages.get(i);
+				mimeMessages[i] = createMessage(email.getTo(), email.getSubject(), email.getBody());
+				originals.put(mimeMessages[i], email);
+			}
 		} catch (MessagingException e) {
-			throw new RuntimeException("Failed to send email", e);
+			throw new EmailDeliveryException(messages, e);
+		}
+
+		try {
+			// One connection and AUTH for the whole batch
+			mailSender.send(mimeMessages);
+		} catch (MailSendException e) {
+			List<EmailMessage> failed = e.getFailedMessages()
+										 .keySet()
+										 .stream()
+										 .map(originals::get)
+										 .filter(Objects::nonNull)
+										 .toList();
+			throw new EmailDeliveryException(failed.isEmpty() ? messages : failed, e);
+		} catch (MailException e) {
+			throw new EmailDeliveryException(messages, e);
 		}
 	}
 
+	private MimeMessage createMessage(String to, String subject, String body) throws MessagingException {
+		MimeMessage message = mailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+
+		helper.setTo(to);
+		helper.setSubject(subject);
+		helper.setText(body, false);
+
+		return message;
+	}
+
 }
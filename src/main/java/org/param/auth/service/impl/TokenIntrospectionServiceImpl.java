@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.service.impl;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.param.auth.dto.IntrospectRequest;
+import org.param.auth.dto.IntrospectResponse;
+import org.param.auth.dto.TokenIntrospection;
+import org.param.auth.security.VerifiedToken;
+import org.param.auth.service.JwtService;
+import org.param.auth.service.TokenIntrospectionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 2:12:38 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+	private final JwtService jwtService;
+
+	// Below this a batch is verified on the request thread; fork/join overhead is not worth it
+	@Value("${security.jwt.introspection.parallel-threshold:32}")
+	private int parallelThreshold;
+
+	@Value("${security.jwt.introspection.parallelism:0}")
+	private int parallelism;
+
+	// Own pool so large batches do not compete with other users of the common pool
+	private ForkJoinPool verificationPool;
+
+	@PostConstruct
+	public void init() {
+		int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		this.verificationPool = new ForkJoinPool(threads);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		verificationPool.shutdown();
+	}
+
+	@Override
+	public IntrospectResponse introspect(IntrospectRequest request) {
+		List<String> tokens = request.getTokens();
+
+		if (tokens.size() < parallelThreshold) {
+			return new IntrospectResponse(tokens.stream().map(this::introspect).toList());
+		}
+
+		// A parallel stream started inside a ForkJoinPool task runs on that pool
+		List<TokenIntrospection> results = verificationPool.submit(() -> tokens.parallelStream()
+																				.map(this::introspect)
+																				.toList())
+														   .join();
+		return new IntrospectResponse(results);
+	}
+
+	private TokenIntrospection introspect(String token) {
+		// verify also accepts refresh JWTs (they are redeemed through it); only access tokens are active
+		return jwtService.verify(token)
+						 .filter(VerifiedToken::isAccessToken)
+						 .map(verified -> new TokenIntrospection(true, verified.getSubject(), verified.getRoles(), verified.getExpiresAt()))
+						 .orElseGet(TokenIntrospection::inactive);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 11:05:12 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Fixed-size, thread-safe Bloom filter over strings. put and mightContain are lock-free; a
+ * mightContain that runs concurrently with a put of the same value may still answer false.
+ *
+ * Bit positions use double hashing (h1 + i * h2) over a 64-bit FNV-1a hash of the UTF-8 bytes,
+ * so one pass over the value serves every probe.
+ */
+public final class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	private BloomFilter(long bitCount, int hashCount) {
+		int words = (int) Math.min(Integer.MAX_VALUE - 8, (bitCount + 63) >>> 6);
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = (long) words << 6;
+		this.hashCount = hashCount;
+	}
+
+	/**
+	 * Sizes the filter for the expected number of insertions at the given false-positive
+	 * probability, using the standard m = -n ln p / (ln 2)^2 and k = m / n ln 2.
+	 */
+	public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions must be positive");
+		}
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("falsePositiveProbability must be in (0, 1)");
+		}
+
+		double ln2 = Math.log(2);
+		long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+		int k = Math.max(1, (int) Math.round((double) m / expectedInsertions * ln2));
+		return new BloomFilter(Math.max(64, m), k);
+	}
+
+	public void put(String value) {
+		long hash = hash(value);
+		long h1 = hash;
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+			setBit(bit);
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = hash(value);
+		long h1 = hash;
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long bitSize() {
+		return bitCount;
+	}
+
+	public int hashCount() {
+		return hashCount;
+	}
+
+	private void setBit(long bit) {
+		int index = (int) (bit >>> 6);
+		long mask = 1L << bit;
+
+		long word = bits.get(index);
+		while ((word & mask) == 0) {
+			long witness = bits.compareAndExchange(index, word, word | mask);
+			if (witness == word) {
+				return;
+			}
+			word = witness;
+		}
+	}
+
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	// MurmurHash3 fmix64 finaliser, spreads FNV's weak low bits across the whole word
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb93fe1a85ec3L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 12:31:08 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Hashed timing wheel: a ring of buckets advanced by a single daemon thread once per tick.
+ * Scheduling is O(1) and expiring a bucket only touches the items hashed to it, so a large number
+ * of coarse timeouts costs one thread and no per-item timer.
+ *
+ * Items never fire before their deadline and normally within one tick after it; an item added
+ * while its bucket is being swept waits one more revolution. Items whose deadline is more than one
+ * revolution away stay in their bucket until the right round comes.
+ */
+@Slf4j
+public final class HashedTimingWheel<T> implements AutoCloseable {
+
+	private final long tickNanos;
+	private final int mask;
+	private final ConcurrentLinkedQueue<Timeout<T>>[] buckets;
+	private final Consumer<T> onExpiry;
+	private final AtomicInteger pending = new AtomicInteger();
+	private final long startNanos = System.nanoTime();
+	private final ScheduledExecutorService ticker;
+
+	// Last tick whose bucket has been processed; written by the ticker thread only
+	private volatile long currentTick;
+
+	@SuppressWarnings("unchecked")
+	public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Consumer<T> onExpiry) {
+		if (tickDuration <= 0 || wheelSize <= 0) {
+			throw new IllegalArgumentException("tickDuration and wheelSize must be positive");
+		}
+
+		int size = Integer.highestOneBit(wheelSize - 1) << 1; // round up to a power of two
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.mask = Math.max(1, size) - 1;
+		this.buckets = new ConcurrentLinkedQueue[mask + 1];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new ConcurrentLinkedQueue<>();
+		}
+		this.onExpiry = onExpiry;
+
+		this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+		ticker.scheduleAtFixedRate(this::advance, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void schedule(T item, long delay, TimeUnit unit) {
+		long elapsed = System.nanoTime() - startNanos + unit.toNanos(delay);
+		long deadlineTick = Math.max((elapsed + tickNanos - 1) / tickNanos, currentTick + 1);
+
+		pending.incrementAndGet();
+		buckets[(int) (deadlineTick & mask)].add(new Timeout<>(item, deadlineTick));
+	}
+
+	// Items scheduled and not yet fired
+	public int pending() {
+		return pending.get();
+	}
+
+	@Override
+	public void close() {
+		ticker.shutdownNow();
+	}
+
+	private void advance() {
+		long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+
+		while (currentTick < targetTick) {
+			long tick = currentTick + 1;
+
+			Iterator<Timeout<T>> iterator = buckets[(int) (tick & mask)].iterator();
+			while (iterator.hasNext()) {
+				Timeout<T> timeout = iterator.next();
+				if (timeout.deadlineTick <= tick) {
+					iterator.remove();
+					pending.decrementAndGet();
+					fire(timeout.item);
+				}
+			}
+
+			currentTick = tick;
+		}
+	}
+
+	private void fire(T item) {
+		try {
+			onExpiry.accept(item);
+		} catch (RuntimeException e) {
+			// Never let one callback stop the wheel
+			log.warn("Timing wheel expiry callback failed", e);
+		}
+	}
+
+	private static final class Timeout<T> {
+
+		private final T item;
+		private final long deadlineTick;
+
+		private Timeout(T item, long deadlineTick) {
+			this.item = item;
+			this.deadlineTick = deadlineTick;
+		}
+	}
+}
@@ -15,8 +15,6 @@
  */
 package org.param.auth.util;
 
-import java.security.SecureRandom;
-
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -30,15 +28,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class OtpUtil {
 
-	private static final SecureRandom random = new SecureRandom();
 	private static final int OTP_LENGTH = 6;
 
 	public static String generateOtp() {
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < OTP_LENGTH; i++) {
-			sb.append(random.nextInt(10)); // digits only
-		}
-		return sb.toString();
+		return SecureRandomPool.numericOtp(OTP_LENGTH); // digits only
 	}
 
 }
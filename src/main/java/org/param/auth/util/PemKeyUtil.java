@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.util;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 18-Oct-2026 : 10:04:51 AM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Reads PEM encoded keys. Private keys must be PKCS#8 ("BEGIN PRIVATE KEY"), public keys
+ * X.509 SubjectPublicKeyInfo ("BEGIN PUBLIC KEY"); convert SEC1 EC keys with
+ * {@code openssl pkcs8 -topk8 -nocrypt}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PemKeyUtil {
+
+	// Key types tried, in order, when a PEM does not say what it holds
+	private static final String[] KEY_ALGORITHMS = { "RSA", "EC", "Ed25519" };
+
+	public static PrivateKey readPrivateKey(String pem, String keyAlgorithm) throws GeneralSecurityException {
+		return KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(decode(pem)));
+	}
+
+	public static PublicKey readPublicKey(String pem, String keyAlgorithm) throws GeneralSecurityException {
+		return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(decode(pem)));
+	}
+
+	public static PrivateKey readPrivateKey(String pem) throws GeneralSecurityException {
+		PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(decode(pem));
+		for (String keyAlgorithm : KEY_ALGORITHMS) {
+			try {
+				return KeyFactory.getInstance(keyAlgorithm).generatePrivate(keySpec);
+			} catch (InvalidKeySpecException e) {
+				// not this key type, try the next one
+			}
+		}
+		throw new InvalidKeySpecException("Unsupported private key type");
+	}
+
+	public static PublicKey readPublicKey(String pem) throws GeneralSecurityException {
+		X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decode(pem));
+		for (String keyAlgorithm : KEY_ALGORITHMS) {
+			try {
+				return KeyFactory.getInstance(keyAlgorithm).generatePublic(keySpec);
+			} catch (InvalidKeySpecException e) {
+				// not this key type, try the next one
+			}
+		}
+		throw new InvalidKeySpecException("Unsupported public key type");
+	}
+
+	/**
+	 * Only RSA private keys carry enough to rebuild the public key; EC and EdDSA keys
+	 * need their public half supplied separately.
+	 */
+	public static PublicKey derivePublicKey(PrivateKey privateKey) throws GeneralSecurityException {
+		if (privateKey instanceof RSAPrivateCrtKey crtKey) {
+			return KeyFactory.getInstance("RSA")
+					.generatePublic(new RSAPublicKeySpec(crtKey.getModulus(), crtKey.getPublicExponent()));
+		}
+		throw new GeneralSecurityException("Public key cannot be derived from a " + privateKey.getAlgorithm()
+				+ " private key, configure it explicitly");
+	}
+
+	public static String toPem(String type, byte[] encoded) {
+		String body = Base64.getMimeEncoder(64, new byte[] { '\n' }).encodeToString(encoded);
+		return "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+	}
+
+	private static byte[] decode(String pem) {
+		String content = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+							.replaceAll("\\s+", "");
+		return Base64.getDecoder().decode(content);
+	}
+}
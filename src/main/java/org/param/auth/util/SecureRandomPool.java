@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 4:18:36 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Striped pool of DRBG instances (NIST SP 800-90A Hash_DRBG, 256-bit strength) for OTPs, opaque
+ * tokens and JWT IDs. A thread picks its stripe from its id, so contention is spread over twice the
+ * core count instead of one shared SecureRandom. Stripes rather than thread locals, because virtual
+ * threads are per request and would pay a DRBG instantiation each.
+ *
+ * Each stripe draws from its DRBG in blocks into a small buffer, which amortises the per-call DRBG
+ * overhead over many OTPs, and reseeds from the system entropy source after RESEED_BYTES or
+ * RESEED_INTERVAL_NANOS, whichever comes first. Stripe locks are ReentrantLocks so waiting virtual
+ * threads do not pin their carrier.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SecureRandomPool {
+
+	private static final int BUFFER_SIZE = 512;
+	private static final long RESEED_BYTES = 1L << 20;
+	private static final long RESEED_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+	private static final int JWT_ID_BYTES = 16;
+
+	private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+	private static final Stripe[] STRIPES = createStripes();
+	private static final int MASK = STRIPES.length - 1;
+
+	public static void nextBytes(byte[] bytes) {
+		Stripe stripe = stripe();
+		stripe.lock.lock();
+		try {
+			stripe.fill(bytes, 0, bytes.length);
+		} finally {
+			stripe.lock.unlock();
+		}
+	}
+
+	/**
+	 * Uniform decimal code of the given length. Random bytes of 250 or more are rejected so that
+	 * byte % 10 carries no modulo bias.
+	 */
+	public static String numericOtp(int digits) {
+		byte[] code = new byte[digits];
+		Stripe stripe = stripe();
+
+		stripe.lock.lock();
+		try {
+			int filled = 0;
+			while (filled < digits) {
+				int value = stripe.nextByte() & 0xff;
+				if (value < 250) {
+					code[filled++] = (byte) ('0' + value % 10);
+				}
+			}
+		} finally {
+			stripe.lock.unlock();
+		}
+		return new String(code, StandardCharsets.US_ASCII);
+	}
+
+	// base64url without padding of the given number of random bytes
+	public static String opaqueToken(int bytes) {
+		byte[] raw = new byte[bytes];
+		nextBytes(raw);
+		return BASE64URL.encodeToString(raw);
+	}
+
+	// 128-bit random identifier for the jti claim, 22 base64url characters
+	public static String jwtId() {
+		return opaqueToken(JWT_ID_BYTES);
+	}
+
+	private static Stripe stripe() {
+		long id = Thread.currentThread().threadId();
+		int hash = (int) (id ^ (id >>> 32));
+		hash ^= hash >>> 16;
+		hash *= 0x45d9f3b;
+		hash ^= hash >>> 16;
+		return STRIPES[hash & MASK];
+	}
+
+	private static Stripe[] createStripes() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int count = Integer.highestOneBit(Math.max(1, cores * 2 - 1)) << 1;
+
+		Stripe[] stripes = new Stripe[count];
+		for (int i = 0; i < count; i++) {
+			stripes[i] = new Stripe(i);
+		}
+		return stripes;
+	}
+
+	private static final class Stripe {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final SecureRandom drbg;
+		private final byte[] buffer = new byte[BUFFER_SIZE];
+		private int position = BUFFER_SIZE;
+		private long bytesSinceSeed;
+		private long seededAt = System.nanoTime();
+
+		private Stripe(int index) {
+			this.drbg = newDrbg(index);
+		}
+
+		private byte nextByte() {
+			if (position == BUFFER_SIZE) {
+				refill();
+			}
+			return buffer[position++];
+		}
+
+		private void fill(byte[] target, int offset, int length) {
+			while (length > 0) {
+				if (position == BUFFER_SIZE) {
+					refill();
+				}
+				int chunk = Math.min(length, BUFFER_SIZE - position);
+				System.arraycopy(buffer, position, target, offset, chunk);
+				// Handed-out bytes are not left behind in the buffer
+				Arrays.fill(buffer, position, position + chunk, (byte) 0);
+				position += chunk;
+				offset += chunk;
+				length -= chunk;
+			}
+		}
+
+		private void refill() {
+			if (bytesSinceSeed >= RESEED_BYTES || System.nanoTime() - seededAt >= RESEED_INTERVAL_NANOS) {
+				reseed();
+				bytesSinceSeed = 0;
+				seededAt = System.nanoTime();
+			}
+
+			drbg.nextBytes(buffer);
+			bytesSinceSeed += BUFFER_SIZE;
+			position = 0;
+		}
+
+		private void reseed() {
+			try {
+				drbg.reseed();
+			} catch (UnsupportedOperationException e) {
+				// Fallback generator reseeds itself
+			}
+		}
+
+		private static SecureRandom newDrbg(int index) {
+			// Personalisation keeps stripes distinct even if the entropy source repeated itself
+			byte[] personalization = ByteBuffer.allocate(16).putInt(index).putLong(System.nanoTime()).array();
+			try {
+				return SecureRandom.getInstance("DRBG", DrbgParameters.instantiation(256,
+						DrbgParameters.Capability.RESEED_ONLY, personalization));
+			} catch (NoSuchAlgorithmException e) {
+				log.warn("DRBG not available, falling back to the default SecureRandom", e);
+				return new SecureRandom();
+			}
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024 PARAM SOFT. All rights reserved.
+ * 
+ * This software and its documentation (the "Software") are confidential and proprietary to PARAM SOFT.
+ * The Software is protected by copyright, trade secret, and other intellectual property laws. 
+ * Unauthorized use, reproduction, modification, distribution, or disclosure of the Software, 
+ * in whole or in part, is strictly prohibited without prior written consent from PARAM SOFT.
+ * The Software is provided "as-is" without any express or implied warranty of any kind, 
+ * including but not limited to the warranties of merchant ability, fitness for a particular purpose, 
+ * or non infringement. You may use the Software only in accordance with the terms of 
+ * the applicable license agreement. 
+ *
+ * For more information, including licensing inquiries or support, 
+ * please contact: PARAM SOFT - https://www.paramsoft.org
+ */
+package org.param.auth.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Author: PARAMESHWARAN PV
+ * Date: 19-Oct-2026 : 2:03:17 PM
+ * Since: 1.0.0
+ * @See #
+ */
+
+/**
+ * Per-key token bucket, held as a single long per key in the GCRA form (the time at which the
+ * bucket will be full again), so an acquire is one compare-and-set with no lock and no packed
+ * token / timestamp arithmetic. A bucket allows a burst of capacity and then refillPerMinute.
+ *
+ * Keys are spread over power-of-two stripes, each capped at maxKeys / stripes. Buckets that have
+ * refilled completely carry no state and are dropped by evictIdle (a request racing with the
+ * eviction of its own bucket may get one extra token). When a stripe is still full after an inline
+ * sweep, the bucket closest to full is evicted to make room. Requests are never waved through, and
+ * a drained bucket (a key under attack) is the last to go: resetting one means first draining every
+ * other bucket in its stripe.
+ */
+public final class TokenBucketRateLimiter {
+
+	private final long capacity;
+	private final long emissionIntervalNanos;
+	private final long burstNanos;
+	private final int maxKeysPerStripe;
+	private final int mask;
+	private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+	private final LongSupplier nanoClock;
+	private final LongAdder evictions = new LongAdder();
+
+	public TokenBucketRateLimiter(long capacity, long refillPerMinute, int maxKeys, int stripes) {
+		this(capacity, refillPerMinute, maxKeys, stripes, System::nanoTime);
+	}
+
+	@SuppressWarnings("unchecked")
+	public TokenBucketRateLimiter(long capacity, long refillPerMinute, int maxKeys, int stripes,
+			LongSupplier nanoClock) {
+		if (capacity <= 0 || refillPerMinute <= 0 || maxKeys <= 0 || stripes <= 0) {
+			throw new IllegalArgumentException("capacity, refillPerMinute, maxKeys and stripes must be positive");
+		}
+
+		int stripeCount = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+		this.capacity = capacity;
+		this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+		this.burstNanos = emissionIntervalNanos * capacity;
+		this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+		this.mask = stripeCount - 1;
+		this.stripes = new ConcurrentHashMap[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			this.stripes[i] = new ConcurrentHashMap<>();
+		}
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Takes one token for the key.
+	 *
+	 * @return 0 when allowed, otherwise the nanoseconds until a token becomes available
+	 */
+	public long tryAcquire(String key) {
+		return tryAcquire(key, 1);
+	}
+
+	/**
+	 * Takes permits tokens for the key at once, all or none.
+	 *
+	 * @return 0 when allowed, otherwise the nanoseconds until enough tokens become available
+	 */
+	public long tryAcquire(String key, int permits) {
+		if (permits <= 0 || permits > capacity) {
+			throw new IllegalArgumentException("permits must be between 1 and the capacity " + capacity);
+		}
+
+		long now = nanoClock.getAsLong();
+
+		AtomicLong bucket = bucket(key, now);
+		while (true) {
+			long fullAt = bucket.get();
+			long next = Math.max(fullAt - now, 0) + emissionIntervalNanos * permits;
+
+			if (next > burstNanos) {
+				return next - burstNanos;
+			}
+			if (bucket.compareAndSet(fullAt, now + next)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Looks at the key's bucket without taking a token or creating the bucket.
+	 *
+	 * @return 0 when a token is available, otherwise the nanoseconds until one is
+	 */
+	public long waitTime(String key) {
+		AtomicLong bucket = stripes[spread(key.hashCode()) & mask].get(key);
+		if (bucket == null) {
+			return 0;
+		}
+
+		long next = Math.max(bucket.get() - nanoClock.getAsLong(), 0) + emissionIntervalNanos;
+		return next > burstNanos ? next - burstNanos : 0;
+	}
+
+	// Drops buckets that have refilled completely; they would start from the same state anyway
+	public void evictIdle() {
+		long now = nanoClock.getAsLong();
+		for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+			evictIdle(stripe, now);
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	// Buckets dropped before they had refilled because the key table was full
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	public long capacity() {
+		return capacity;
+	}
+
+	private AtomicLong bucket(String key, long now) {
+		ConcurrentHashMap<String, AtomicLong> stripe = stripes[spread(key.hashCode()) & mask];
+
+		AtomicLong bucket = stripe.get(key);
+		if (bucket != null) {
+			return bucket;
+		}
+
+		if (stripe.size() >= maxKeysPerStripe) {
+			evictIdle(stripe, now);
+			if (stripe.size() >= maxKeysPerStripe && evictFullest(stripe)) {
+				evictions.increment();
+			}
+		}
+		return stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+	}
+
+	// Drops the bucket that will be full soonest, i.e. the one losing the least state
+	private static boolean evictFullest(ConcurrentHashMap<String, AtomicLong> stripe) {
+		Map.Entry<String, AtomicLong> fullest = null;
+		long fullestAt = Long.MAX_VALUE;
+
+		for (Map.Entry<String, AtomicLong> entry : stripe.entrySet()) {
+			long fullAt = entry.getValue().get();
+			if (fullest == null || fullAt - fullestAt < 0) {
+				fullest = entry;
+				fullestAt = fullAt;
+			}
+		}
+		return fullest != null && stripe.remove(fullest.getKey(), fullest.getValue());
+	}
+
+	private static void evictIdle(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+		Iterator<Map.Entry<String, AtomicLong>> iterator = stripe.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, AtomicLong> entry = iterator.next();
+			if (entry.getValue().get() - now <= 0) {
+				stripe.remove(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,85 @@
+package org.param.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.param.auth.security.AdaptiveBCryptPasswordEncoder;
+import org.param.auth.security.BoundedPasswordEncoder;
+import org.param.auth.security.JwtAlgorithm;
+import org.param.auth.security.JwtKeyRing;
+import org.param.auth.security.VerifiedTokenCache;
+import org.param.auth.service.impl.JwtServiceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Runs the password and token paths from virtual threads under a JFR stream and fails on any
+ * jdk.VirtualThreadPinned event, i.e. a virtual thread that blocked while holding a monitor.
+ */
+class VirtualThreadPinningTests {
+
+	@Test
+	void passwordAndTokenPathsDoNotPinCarrierThreads() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(new AdaptiveBCryptPasswordEncoder(4), 2, 1000,
+				30_000, meterRegistry);
+		JwtServiceImpl jwtService = jwtService(meterRegistry);
+
+		List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+		try (RecordingStream recording = new RecordingStream()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+			recording.startAsync();
+
+			try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (int i = 0; i < 200; i++) {
+					String email = "user" + i + "@paramsoft.org";
+					virtualThreads.submit(() -> {
+						String hash = passwordEncoder.encode("P@ssw0rd");
+						passwordEncoder.matches("P@ssw0rd", hash);
+						String token = jwtService.generateAccessToken(email, Set.of("USER"));
+						return jwtService.verify(token);
+					});
+				}
+			}
+
+			recording.stop();
+		} finally {
+			passwordEncoder.destroy();
+		}
+
+		assertThat(pinned).as("virtual thread pinned events").isEmpty();
+	}
+
+	private JwtServiceImpl jwtService(SimpleMeterRegistry meterRegistry) {
+		JwtKeyRing keyRing = new JwtKeyRing();
+		ReflectionTestUtils.setField(keyRing, "signingAlgorithm", JwtAlgorithm.RS256);
+		ReflectionTestUtils.setField(keyRing, "privateKeyLocation", "classpath:private_key.pem");
+		ReflectionTestUtils.setField(keyRing, "publicKeyLocation", "");
+		ReflectionTestUtils.setField(keyRing, "keyDirectory", "");
+		ReflectionTestUtils.setField(keyRing, "signingKid", "");
+		keyRing.init();
+
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(meterRegistry, keyRing);
+		ReflectionTestUtils.setField(verifiedTokenCache, "enabled", true);
+		ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 10_000L);
+		verifiedTokenCache.init();
+
+		JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, verifiedTokenCache);
+		ReflectionTestUtils.setField(jwtService, "accessTokenValidity", 3_600_000L);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenValidity", 604_800_000L);
+		jwtService.init();
+		return jwtService;
+	}
+}
@@ -0,0 +1,83 @@
+package org.param.auth.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+
+import org.param.auth.security.JwtAlgorithm;
+import org.param.auth.security.JwtKeyRing;
+import org.param.auth.security.VerifiedTokenCache;
+import org.param.auth.service.impl.JwtServiceImpl;
+import org.param.auth.util.PemKeyUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Builds services for benchmarks outside a Spring context, with freshly generated keys.
+ */
+final class BenchmarkSupport {
+
+	static final String SUBJECT = "bench.user@paramsoft.org";
+
+	private BenchmarkSupport() {
+	}
+
+	static JwtServiceImpl jwtService(JwtAlgorithm algorithm) throws Exception {
+		return jwtService(keyRing(algorithm), false);
+	}
+
+	static JwtServiceImpl jwtService(JwtKeyRing keyRing, boolean verificationCache) {
+		return jwtService(keyRing, verificationCache, true);
+	}
+
+	static JwtServiceImpl jwtService(JwtKeyRing keyRing, boolean verificationCache, boolean fastMinting) {
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), keyRing);
+		ReflectionTestUtils.setField(verifiedTokenCache, "enabled", verificationCache);
+		ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 100_000L);
+		verifiedTokenCache.init();
+
+		JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, verifiedTokenCache);
+		ReflectionTestUtils.setField(jwtService, "accessTokenValidity", 3_600_000L);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenValidity", 604_800_000L);
+		ReflectionTestUtils.setField(jwtService, "fastMinting", fastMinting);
+		jwtService.init();
+		return jwtService;
+	}
+
+	static JwtKeyRing keyRing(JwtAlgorithm algorithm) throws Exception {
+		KeyPair keyPair = generateKeyPair(algorithm);
+
+		Path dir = Files.createTempDirectory("jwt-bench");
+		Path privateKey = Files.writeString(dir.resolve("private_key.pem"),
+				PemKeyUtil.toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+		Path publicKey = Files.writeString(dir.resolve("public_key.pem"),
+				PemKeyUtil.toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+
+		JwtKeyRing keyRing = new JwtKeyRing();
+		ReflectionTestUtils.setField(keyRing, "signingAlgorithm", algorithm);
+		ReflectionTestUtils.setField(keyRing, "privateKeyLocation", privateKey.toUri().toString());
+		ReflectionTestUtils.setField(keyRing, "publicKeyLocation", publicKey.toUri().toString());
+		ReflectionTestUtils.setField(keyRing, "keyDirectory", "");
+		ReflectionTestUtils.setField(keyRing, "signingKid", "");
+		keyRing.init();
+		return keyRing;
+	}
+
+	static KeyPair generateKeyPair(JwtAlgorithm algorithm) throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+		switch (algorithm) {
+		case RS256:
+			generator.initialize(2048);
+			break;
+		case ES256:
+			generator.initialize(new ECGenParameterSpec("secp256r1"));
+			break;
+		default:
+			break;
+		}
+		return generator.generateKeyPair();
+	}
+}
@@ -0,0 +1,69 @@
+package org.param.auth.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.param.auth.security.JwtAlgorithm;
+import org.param.auth.service.impl.JwtServiceImpl;
+
+/**
+ * JwtService operations on the request path, signing with a freshly generated RS256 key of the
+ * production size (2048 bits), with the verification cache off and on.
+ *
+ * mvn -P benchmark test -Djmh.args="JwtServiceBenchmark -prof gc"
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean verificationCache;
+
+	private final Set<String> roles = Set.of("USER", "ADMIN");
+
+	private JwtServiceImpl jwtService;
+
+	private String accessToken;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		jwtService = BenchmarkSupport.jwtService(BenchmarkSupport.keyRing(JwtAlgorithm.RS256), verificationCache);
+		accessToken = jwtService.generateAccessToken(BenchmarkSupport.SUBJECT, roles);
+	}
+
+	@Benchmark
+	public String generateAccessToken() {
+		return jwtService.generateAccessToken(BenchmarkSupport.SUBJECT, roles);
+	}
+
+	@Benchmark
+	public String generateRefreshToken() {
+		return jwtService.generateRefreshToken(BenchmarkSupport.SUBJECT);
+	}
+
+	@Benchmark
+	public boolean isTokenValid() {
+		return jwtService.isTokenValid(accessToken);
+	}
+
+	@Benchmark
+	public Set<String> extractRoles() {
+		return jwtService.extractRoles(accessToken);
+	}
+}
@@ -0,0 +1,68 @@
+package org.param.auth.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.param.auth.security.JwtAlgorithm;
+import org.param.auth.security.JwtKeyRing;
+import org.param.auth.service.impl.JwtServiceImpl;
+
+/**
+ * Sign and verify throughput of each supported signing algorithm through JwtServiceImpl.
+ *
+ * mvn -P benchmark test -Djmh.args="JwtSigningBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtSigningBenchmark {
+
+	@Param({ "RS256", "ES256", "EdDSA" })
+	public JwtAlgorithm algorithm;
+
+	private final Set<String> roles = Set.of("USER");
+
+	private JwtServiceImpl jwtService;
+
+	private JwtServiceImpl cachedJwtService;
+
+	private String accessToken;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		JwtKeyRing keyRing = BenchmarkSupport.keyRing(algorithm);
+		jwtService = BenchmarkSupport.jwtService(keyRing, false);
+		cachedJwtService = BenchmarkSupport.jwtService(keyRing, true);
+		accessToken = jwtService.generateAccessToken(BenchmarkSupport.SUBJECT, roles);
+	}
+
+	@Benchmark
+	public String sign() {
+		return jwtService.generateAccessToken(BenchmarkSupport.SUBJECT, roles);
+	}
+
+	@Benchmark
+	public boolean verify() {
+		return jwtService.isTokenValid(accessToken);
+	}
+
+	@Benchmark
+	public boolean verifyCached() {
+		return cachedJwtService.isTokenValid(accessToken);
+	}
+}
@@ -0,0 +1,43 @@
+package org.param.auth.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.param.auth.util.OpaqueTokenUtil;
+import org.param.auth.util.OtpUtil;
+
+/**
+ * Random code generation, single-threaded and with the shared SecureRandom contended.
+ *
+ * mvn -P benchmark test -Djmh.args="OtpBenchmark -prof gc"
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OtpBenchmark {
+
+	@Benchmark
+	public String generateOtp() {
+		return OtpUtil.generateOtp();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String generateOtpContended() {
+		return OtpUtil.generateOtp();
+	}
+
+	@Benchmark
+	public String generateOpaqueToken() {
+		return OpaqueTokenUtil.generateToken();
+	}
+}
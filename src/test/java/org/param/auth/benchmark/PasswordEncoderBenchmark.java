@@ -0,0 +1,52 @@
+package org.param.auth.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.param.auth.security.AdaptiveBCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt match cost per strength, i.e. the CPU a login pays. Each step of strength doubles it.
+ *
+ * mvn -P benchmark test -Djmh.args="PasswordEncoderBenchmark -prof gc"
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+	private static final String PASSWORD = "Bench#Passw0rd";
+
+	@Param({ "10", "11", "12", "13" })
+	public int strength;
+
+	private PasswordEncoder passwordEncoder;
+
+	private String hash;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		passwordEncoder = new AdaptiveBCryptPasswordEncoder(strength);
+		hash = passwordEncoder.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(PASSWORD, hash);
+	}
+}
@@ -0,0 +1,85 @@
+package org.param.auth.benchmark;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.param.auth.util.SecureRandomPool;
+
+/**
+ * Striped DRBG pool against the single static SecureRandom OtpUtil used to share, uncontended and
+ * with every core drawing at once.
+ *
+ * mvn -P benchmark test -Djmh.args="SecureRandomBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecureRandomBenchmark {
+
+	private static final SecureRandom SHARED = new SecureRandom();
+
+	// The previous OtpUtil implementation
+	private static String sharedOtp() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 6; i++) {
+			sb.append(SHARED.nextInt(10));
+		}
+		return sb.toString();
+	}
+
+	private static String sharedToken() {
+		byte[] bytes = new byte[32];
+		SHARED.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	@Benchmark
+	public String otpShared() {
+		return sharedOtp();
+	}
+
+	@Benchmark
+	public String otpPool() {
+		return SecureRandomPool.numericOtp(6);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String otpSharedContended() {
+		return sharedOtp();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String otpPoolContended() {
+		return SecureRandomPool.numericOtp(6);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String opaqueTokenSharedContended() {
+		return sharedToken();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String opaqueTokenPoolContended() {
+		return SecureRandomPool.opaqueToken(32);
+	}
+
+	@Benchmark
+	public String jwtIdPool() {
+		return SecureRandomPool.jwtId();
+	}
+}
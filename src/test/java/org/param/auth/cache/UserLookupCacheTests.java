@@ -0,0 +1,160 @@
+package org.param.auth.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.dto.RegisterRequest;
+import org.param.auth.dto.ResetPasswordRequest;
+import org.param.auth.model.User;
+import org.param.auth.otp.OtpStore;
+import org.param.auth.repository.OtpTokenRepository;
+import org.param.auth.repository.UserRepository;
+import org.param.auth.service.AuthService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"auth.email-filter.enabled=false",
+		"auth.purge.enabled=false" })
+class UserLookupCacheTests {
+
+	private static final String EMAIL = "Lookup.Cache@Example.com";
+	private static final String PASSWORD = "Secret#123";
+
+	@Autowired
+	private UserLookupCache userLookupCache;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private OtpTokenRepository otpTokenRepository;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private OtpStore otpStore;
+
+	@AfterEach
+	void tearDown() {
+		otpTokenRepository.deleteAll();
+		userRepository.deleteAll();
+		userLookupCache.invalidate(EMAIL);
+	}
+
+	@Test
+	void servesRepeatLookupsFromTheCache() {
+		saveUser(Set.of("USER"));
+
+		UserSnapshot first = userLookupCache.findByEmail(EMAIL).orElseThrow();
+		UserSnapshot second = userLookupCache.findByEmail(EMAIL).orElseThrow();
+
+		assertThat(second).isSameAs(first);
+		assertThat(cached(userLookupCache)).isSameAs(first);
+	}
+
+	@Test
+	void doesNotCacheUnknownEmails() {
+		assertThat(userLookupCache.findByEmail("nobody@example.com")).isEmpty();
+
+		assertThat(entries(userLookupCache).getIfPresent("nobody@example.com")).isNull();
+	}
+
+	@Test
+	void keepsTheEmailAsRegistered() {
+		authService.register(registerRequest(Set.of("USER")));
+
+		assertThat(userRepository.findByEmail(EMAIL).orElseThrow().getEmail()).isEqualTo(EMAIL);
+		assertThat(userLookupCache.findByEmail(EMAIL).orElseThrow().getEmail()).isEqualTo(EMAIL);
+	}
+
+	@Test
+	void registrationDropsAStaleSnapshot() {
+		saveUser(Set.of("USER"));
+		UserSnapshot stale = userLookupCache.findByEmail(EMAIL).orElseThrow();
+
+		// Removed without going through the service, so the snapshot outlives the row
+		userRepository.deleteAll();
+		authService.register(registerRequest(Set.of("USER", "ADMIN")));
+
+		UserSnapshot fresh = userLookupCache.findByEmail(EMAIL).orElseThrow();
+		assertThat(fresh.getId()).isNotEqualTo(stale.getId());
+		assertThat(fresh.getRoles()).containsExactlyInAnyOrder("USER", "ADMIN");
+	}
+
+	@Test
+	void passwordResetDropsTheSnapshot() {
+		saveUser(Set.of("USER"));
+		userLookupCache.findByEmail(EMAIL);
+		assertThat(cached(userLookupCache)).isNotNull();
+
+		ResetPasswordRequest request = new ResetPasswordRequest();
+		request.setEmail(EMAIL);
+		request.setOtp(otpStore.issue(EMAIL));
+		request.setNewPassword("Changed#456");
+		authService.resetPassword(request);
+
+		assertThat(cached(userLookupCache)).isNull();
+	}
+
+	@Test
+	void expiresSnapshotsAfterTheTtl() {
+		saveUser(Set.of("USER"));
+
+		AtomicLong nanos = new AtomicLong();
+		UserLookupCache cache = new UserLookupCache(userRepository, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 100L);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(cache, "ticker", (Ticker) nanos::get);
+		cache.init();
+
+		UserSnapshot first = cache.findByEmail(EMAIL).orElseThrow();
+
+		nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+		assertThat(cache.findByEmail(EMAIL).orElseThrow()).isSameAs(first);
+
+		nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertThat(cached(cache)).isNull();
+		assertThat(cache.findByEmail(EMAIL).orElseThrow()).isNotSameAs(first);
+	}
+
+	private void saveUser(Set<String> roles) {
+		userRepository.save(User.builder().email(EMAIL).password("$2a$04$initialhash").fullName("Lookup Cache")
+				.mobileNo("9000000003").roles(roles).isVerified(true).build());
+	}
+
+	private static RegisterRequest registerRequest(Set<String> roles) {
+		RegisterRequest request = new RegisterRequest();
+		request.setEmail(EMAIL);
+		request.setPassword(PASSWORD);
+		request.setFullName("Lookup Cache");
+		request.setMobileNo("9000000003");
+		request.setRoles(roles);
+		return request;
+	}
+
+	private static UserSnapshot cached(UserLookupCache cache) {
+		return entries(cache).getIfPresent(UserLookupCache.normalize(EMAIL));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cache<String, UserSnapshot> entries(UserLookupCache cache) {
+		return (Cache<String, UserSnapshot>) ReflectionTestUtils.getField(cache, "cache");
+	}
+}
@@ -0,0 +1,52 @@
+package org.param.auth.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.param.auth.exception.InvalidCredentialsException;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+class AuthEventsTests {
+
+	@Test
+	void recordsOutcomeAndFields() throws Exception {
+		List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+
+		try (RecordingStream recording = new RecordingStream()) {
+			recording.enable("org.param.auth.TokenSign").withThreshold(Duration.ZERO);
+			recording.enable("org.param.auth.Login").withThreshold(Duration.ZERO);
+			recording.onEvent("org.param.auth.TokenSign", events::add);
+			recording.onEvent("org.param.auth.Login", events::add);
+			recording.startAsync();
+
+			TokenSignEvent sign = new TokenSignEvent();
+			sign.tokenType = "access";
+			sign.algorithm = "RS256";
+			assertThat(AuthEvents.record(sign, () -> "token")).isEqualTo("token");
+
+			assertThatThrownBy(() -> AuthEvents.record(new LoginEvent(), () -> {
+				throw new InvalidCredentialsException("Invalid credentials");
+			})).isInstanceOf(InvalidCredentialsException.class);
+
+			recording.stop();
+		}
+
+		assertThat(events).hasSize(2);
+		assertThat(events).anySatisfy(event -> {
+			assertThat(event.getEventType().getName()).isEqualTo("org.param.auth.TokenSign");
+			assertThat(event.getString("outcome")).isEqualTo("success");
+			assertThat(event.getString("tokenType")).isEqualTo("access");
+		});
+		assertThat(events).anySatisfy(event -> {
+			assertThat(event.getEventType().getName()).isEqualTo("org.param.auth.Login");
+			assertThat(event.getString("outcome")).isEqualTo("rejected");
+		});
+	}
+}
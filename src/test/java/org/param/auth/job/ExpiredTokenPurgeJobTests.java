@@ -0,0 +1,59 @@
+package org.param.auth.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.model.OtpToken;
+import org.param.auth.repository.OtpTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"auth.email-filter.enabled=false",
+		"auth.purge.initial-delay-ms=3600000",
+		"auth.purge.batch-size=10",
+		"auth.purge.pause-between-batches-ms=0" })
+class ExpiredTokenPurgeJobTests {
+
+	@Autowired
+	private ExpiredTokenPurgeJob purgeJob;
+
+	@Autowired
+	private OtpTokenRepository otpTokenRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@AfterEach
+	void tearDown() {
+		otpTokenRepository.deleteAll();
+	}
+
+	@Test
+	void deletesExpiredRowsAcrossBatches() {
+		LocalDateTime now = LocalDateTime.now();
+		IntStream.range(0, 25).forEach(i -> otpTokenRepository.save(otp("expired" + i, now.minusMinutes(1), i % 2 == 0)));
+		IntStream.range(0, 3).forEach(i -> otpTokenRepository.save(otp("live" + i, now.plusMinutes(10), i == 0)));
+
+		purgeJob.purge();
+
+		assertThat(otpTokenRepository.findAll()).hasSize(3)
+				.allSatisfy(token -> assertThat(token.getEmail()).startsWith("live"));
+		assertThat(meterRegistry.get("auth.purge.rows").tag("table", "otp_tokens").counter().count())
+				.isEqualTo(25);
+	}
+
+	private static OtpToken otp(String prefix, LocalDateTime expiryTime, boolean used) {
+		return OtpToken.builder().email(prefix + "@example.com").otp("123456").expiryTime(expiryTime).used(used)
+				.build();
+	}
+}
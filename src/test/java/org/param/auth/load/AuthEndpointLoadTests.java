@@ -0,0 +1,184 @@
+package org.param.auth.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.param.auth.ParamSoftAuthApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Self-contained end-to-end load: the application on H2 with GreenMail as its SMTP server, driven
+ * with mixed signup / login / refresh / forgot / reset traffic. Prints throughput and HDR latency
+ * percentiles per endpoint and writes .hgrm files for each.
+ *
+ * Each client owns one seeded user, so its login, refresh and reset never race another client's.
+ * A reset reads the OTP back from GreenMail and sets the same password again.
+ *
+ * mvn test -Dtest=AuthEndpointLoadTests -Dload.run=true [-Dload.concurrency=50
+ * -Dload.duration-seconds=30 -Dload.warmup-seconds=5 -Dload.virtual-threads=false
+ * -Dload.mix=signup:5,login:25,refresh:45,forgot:15,reset:10 -Dload.hgrm-dir=target/load]
+ */
+@EnabledIfSystemProperty(named = "load.run", matches = "true")
+class AuthEndpointLoadTests {
+
+	private static final String PASSWORD = "P@ssw0rd";
+	private static final Pattern OTP = Pattern.compile("\\b(\\d{6})\\b");
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicLong signups = new AtomicLong();
+
+	private final int concurrency = Integer.getInteger("load.concurrency", 50);
+	private final Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+	private final Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 5));
+	private final boolean virtualThreads = Boolean.getBoolean("load.virtual-threads");
+	private final Mix mix = Mix.parse(System.getProperty("load.mix", "signup:5,login:25,refresh:45,forgot:15,reset:10"));
+	private final Path hgrmDir = Path.of(System.getProperty("load.hgrm-dir", "target/load"));
+
+	@Test
+	void mixedTraffic() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ParamSoftAuthApplication.class)
+				.profiles("test")
+				.run("--server.port=0",
+						"--spring.cloud.config.enabled=false",
+						"--spring.threads.virtual.enabled=" + virtualThreads)) {
+
+			int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+			LoadDriver driver = new LoadDriver(port);
+			String[] refreshTokens = seedUsers(driver);
+
+			LoadDriver.Step step = client -> {
+				switch (mix.next()) {
+				case SIGNUP -> {
+					long sequence = signups.incrementAndGet();
+					signUp(driver, "load.new" + sequence + "@paramsoft.org", sequence);
+				}
+				case LOGIN -> refreshTokens[client] = login(driver, email(client));
+				case REFRESH -> driver.post("/refresh-token", "{\"refreshToken\":\"" + refreshTokens[client] + "\"}");
+				case FORGOT -> driver.post("/forgot-password", "{\"email\":\"" + email(client) + "\"}");
+				case RESET -> reset(driver, email(client));
+				}
+			};
+
+			driver.run(concurrency, warmup, step);
+			LoadDriver.Result result = driver.run(concurrency, duration, step);
+
+			System.out.printf("%nconcurrency=%d duration=%s virtual-threads=%s mix=%s%n", concurrency, duration,
+					virtualThreads, mix);
+			result.printReport(System.out);
+			result.writeHistograms(hgrmDir);
+
+			assertThat(result.requests()).isPositive();
+		}
+	}
+
+	private String[] seedUsers(LoadDriver driver) throws Exception {
+		String[] refreshTokens = new String[concurrency];
+		for (int i = 0; i < concurrency; i++) {
+			signUp(driver, email(i), 1_000_000 + i);
+			refreshTokens[i] = login(driver, email(i));
+		}
+		return refreshTokens;
+	}
+
+	private void signUp(LoadDriver driver, String email, long sequence) throws Exception {
+		driver.post("/signup", "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"fullName\":\"Load User\","
+				+ "\"mobileNo\":\"" + String.format("7%09d", sequence) + "\",\"roles\":[\"USER\"]}");
+	}
+
+	private String login(LoadDriver driver, String email) throws Exception {
+		String body = driver.post("/login", "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}").body();
+		return objectMapper.readTree(body).path("refreshToken").asText(null);
+	}
+
+	private void reset(LoadDriver driver, String email) throws Exception {
+		driver.post("/forgot-password", "{\"email\":\"" + email + "\"}");
+
+		String otp = latestOtp(email);
+		if (otp != null) {
+			driver.post("/reset-password", "{\"email\":\"" + email + "\",\"otp\":\"" + otp + "\",\"newPassword\":\""
+					+ PASSWORD + "\"}");
+		}
+	}
+
+	private static String latestOtp(String email) {
+		MimeMessage[] messages = greenMail.getReceivedMessagesForDomain(email);
+		if (messages.length == 0) {
+			return null;
+		}
+
+		Matcher matcher = OTP.matcher(GreenMailUtil.getBody(messages[messages.length - 1]));
+		return matcher.find() ? matcher.group(1) : null;
+	}
+
+	private static String email(int client) {
+		return "load.client" + client + "@paramsoft.org";
+	}
+
+	private enum Operation {
+		SIGNUP, LOGIN, REFRESH, FORGOT, RESET
+	}
+
+	// Weighted choice of the next operation
+	private static final class Mix {
+
+		private final List<Operation> operations = new ArrayList<>();
+		private final List<Integer> cumulativeWeights = new ArrayList<>();
+		private final String spec;
+		private int totalWeight;
+
+		private Mix(String spec) {
+			this.spec = spec;
+		}
+
+		static Mix parse(String spec) {
+			Mix mix = new Mix(spec);
+			for (String part : spec.split(",")) {
+				String[] pair = part.trim().split(":");
+				int weight = Integer.parseInt(pair[1].trim());
+				if (weight > 0) {
+					mix.totalWeight += weight;
+					mix.operations.add(Operation.valueOf(pair[0].trim().toUpperCase()));
+					mix.cumulativeWeights.add(mix.totalWeight);
+				}
+			}
+			return mix;
+		}
+
+		Operation next() {
+			int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+			for (int i = 0; i < operations.size(); i++) {
+				if (roll < cumulativeWeights.get(i)) {
+					return operations.get(i);
+				}
+			}
+			return operations.get(operations.size() - 1);
+		}
+
+		@Override
+		public String toString() {
+			return spec;
+		}
+	}
+}
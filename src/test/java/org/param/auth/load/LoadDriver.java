@@ -0,0 +1,224 @@
+package org.param.auth.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Closed-loop HTTP load: each of {@code concurrency} clients runs its next step as soon as the
+ * previous one returns, until the duration is up. Every request sent through {@link #post} during
+ * a run is recorded in an HDR histogram for its path, so a step may send several requests.
+ */
+final class LoadDriver {
+
+	@FunctionalInterface
+	interface Step {
+		void execute(int client) throws Exception;
+	}
+
+	// Up to one minute at three significant digits, in nanoseconds
+	private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+	private final String baseUrl;
+
+	// Non-null only while a run is in progress; requests outside a run (seeding) are not recorded
+	private volatile Map<String, EndpointRecorder> recorders;
+
+	LoadDriver(int port) {
+		this.baseUrl = "http://localhost:" + port + "/service/v1.0/auth";
+	}
+
+	HttpResponse<String> post(String path, String json) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.timeout(Duration.ofSeconds(30))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+
+		Map<String, EndpointRecorder> active = recorders;
+		if (active == null) {
+			return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		}
+
+		EndpointRecorder recorder = active.computeIfAbsent(path, p -> new EndpointRecorder());
+		long sent = System.nanoTime();
+		try {
+			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			recorder.record(System.nanoTime() - sent, response.statusCode() >= 400);
+			return response;
+		} catch (Exception e) {
+			recorder.record(System.nanoTime() - sent, true);
+			throw e;
+		}
+	}
+
+	Result run(int concurrency, Duration duration, Step step) throws InterruptedException {
+		Map<String, EndpointRecorder> active = new ConcurrentHashMap<>();
+		recorders = active;
+
+		long deadline = System.nanoTime() + duration.toNanos();
+		long start = System.nanoTime();
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				int client = i;
+				clients.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						try {
+							step.execute(client);
+						} catch (Exception e) {
+							// already counted as an error against the request that failed
+						}
+					}
+				});
+			}
+		} finally {
+			recorders = null;
+		}
+		long elapsed = System.nanoTime() - start;
+
+		Map<String, EndpointResult> endpoints = new TreeMap<>();
+		active.forEach((path, recorder) -> endpoints.put(path, recorder.result()));
+		return new Result(endpoints, elapsed);
+	}
+
+	private static final class EndpointRecorder {
+
+		private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+		private final LongAdder errors = new LongAdder();
+
+		void record(long latencyNanos, boolean error) {
+			recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+			if (error) {
+				errors.increment();
+			}
+		}
+
+		EndpointResult result() {
+			return new EndpointResult(recorder.getIntervalHistogram(), errors.sum());
+		}
+	}
+
+	static final class EndpointResult {
+
+		private final Histogram histogram;
+		private final long errors;
+
+		EndpointResult(Histogram histogram, long errors) {
+			this.histogram = histogram;
+			this.errors = errors;
+		}
+
+		Histogram histogram() {
+			return histogram;
+		}
+
+		long requests() {
+			return histogram.getTotalCount();
+		}
+
+		long errors() {
+			return errors;
+		}
+
+		double percentileMs(double percentile) {
+			return histogram.getValueAtPercentile(percentile) / 1e6;
+		}
+	}
+
+	static final class Result {
+
+		private final Map<String, EndpointResult> endpoints;
+		private final Histogram overall = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+		private final long errors;
+		private final long elapsedNanos;
+
+		Result(Map<String, EndpointResult> endpoints, long elapsedNanos) {
+			this.endpoints = endpoints;
+			this.elapsedNanos = elapsedNanos;
+
+			long totalErrors = 0;
+			for (EndpointResult endpoint : endpoints.values()) {
+				overall.add(endpoint.histogram);
+				totalErrors += endpoint.errors;
+			}
+			this.errors = totalErrors;
+		}
+
+		Map<String, EndpointResult> endpoints() {
+			return endpoints;
+		}
+
+		long requests() {
+			return overall.getTotalCount();
+		}
+
+		long errors() {
+			return errors;
+		}
+
+		double throughput() {
+			return requests() / (elapsedNanos / 1e9);
+		}
+
+		double throughput(String path) {
+			EndpointResult endpoint = endpoints.get(path);
+			return endpoint == null ? 0 : endpoint.requests() / (elapsedNanos / 1e9);
+		}
+
+		double percentileMs(double percentile) {
+			return overall.getValueAtPercentile(percentile) / 1e6;
+		}
+
+		// One line per endpoint plus a total, latencies in milliseconds
+		void printReport(PrintStream out) {
+			out.printf("%-18s %9s %7s %10s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50",
+					"p90", "p99", "p99.9", "max");
+			endpoints.forEach((path, endpoint) -> printLine(out, path, endpoint.requests(), endpoint.errors(),
+					throughput(path), endpoint.histogram));
+			printLine(out, "total", requests(), errors, throughput(), overall);
+		}
+
+		// HdrHistogram percentile distributions (.hgrm), one file per endpoint, for plotting and diffing runs
+		void writeHistograms(Path directory) throws IOException {
+			Files.createDirectories(directory);
+			for (Map.Entry<String, EndpointResult> entry : endpoints.entrySet()) {
+				Path file = directory.resolve(entry.getKey().replace("/", "") + ".hgrm");
+				try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+					entry.getValue().histogram.outputPercentileDistribution(out, 1e6);
+				}
+			}
+		}
+
+		private static void printLine(PrintStream out, String name, long requests, long errors, double throughput,
+				Histogram histogram) {
+			out.printf("%-18s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, requests, errors, throughput,
+					histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(90) / 1e6,
+					histogram.getValueAtPercentile(99) / 1e6, histogram.getValueAtPercentile(99.9) / 1e6,
+					histogram.getMaxValue() / 1e6);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("requests=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms max=%.2fms", requests(), errors,
+					throughput(), percentileMs(50), percentileMs(99), overall.getMaxValue() / 1e6);
+		}
+	}
+}
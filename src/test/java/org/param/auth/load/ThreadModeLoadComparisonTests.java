@@ -0,0 +1,92 @@
+package org.param.auth.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.param.auth.ParamSoftAuthApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+/**
+ * Same refresh-token / forgot-password traffic against the application started once with
+ * platform request threads and once with virtual threads, to compare the two modes.
+ *
+ * mvn test -Dtest=ThreadModeLoadComparisonTests -Dload.compare=true [-Dload.concurrency=400
+ * -Dload.duration-seconds=30 -Dload.tomcat-threads=50]
+ */
+@EnabledIfSystemProperty(named = "load.compare", matches = "true")
+class ThreadModeLoadComparisonTests {
+
+	private static final int USERS = 50;
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final int concurrency = Integer.getInteger("load.concurrency", 200);
+	private final Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 20));
+	private final int tomcatThreads = Integer.getInteger("load.tomcat-threads", 50);
+
+	@Test
+	void compareThreadModes() throws Exception {
+		LoadDriver.Result platform = runAgainst(false);
+		LoadDriver.Result virtual = runAgainst(true);
+
+		System.out.printf("%nconcurrency=%d duration=%s tomcat-threads=%d%n", concurrency, duration, tomcatThreads);
+		System.out.println("platform threads: " + platform);
+		System.out.println("virtual threads:  " + virtual);
+
+		assertThat(platform.requests()).isPositive();
+		assertThat(virtual.requests()).isPositive();
+	}
+
+	private LoadDriver.Result runAgainst(boolean virtualThreads) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ParamSoftAuthApplication.class)
+				.profiles("test")
+				.run("--server.port=0",
+						"--spring.cloud.config.enabled=false",
+						"--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"--spring.threads.virtual.enabled=" + virtualThreads,
+						"--server.tomcat.threads.max=" + tomcatThreads)) {
+
+			int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+			LoadDriver driver = new LoadDriver(port);
+			List<String> refreshTokens = signUpUsers(driver);
+
+			return driver.run(concurrency, duration, client -> {
+				int user = client % USERS;
+				if (client % 10 == 0) {
+					driver.post("/forgot-password", "{\"email\":\"" + email(user) + "\"}");
+				} else {
+					driver.post("/refresh-token", "{\"refreshToken\":\"" + refreshTokens.get(user) + "\"}");
+				}
+			});
+		}
+	}
+
+	private List<String> signUpUsers(LoadDriver driver) throws Exception {
+		List<String> refreshTokens = new ArrayList<>();
+		for (int i = 0; i < USERS; i++) {
+			driver.post("/signup", "{\"email\":\"" + email(i) + "\",\"password\":\"P@ssw0rd\",\"fullName\":\"Load User\","
+					+ "\"mobileNo\":\"" + String.format("98%08d", i) + "\",\"roles\":[\"USER\"]}");
+			String login = driver.post("/login", "{\"email\":\"" + email(i) + "\",\"password\":\"P@ssw0rd\"}").body();
+			refreshTokens.add(objectMapper.readTree(login).get("refreshToken").asText());
+		}
+		return refreshTokens;
+	}
+
+	private static String email(int user) {
+		return "load.user" + user + "@paramsoft.org";
+	}
+}
@@ -0,0 +1,77 @@
+package org.param.auth.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+
+class PooledJavaMailSenderTests {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private final AtomicInteger connects = new AtomicInteger();
+
+	private PooledJavaMailSender mailSender;
+
+	@AfterEach
+	void tearDown() {
+		mailSender.destroy();
+	}
+
+	@Test
+	void reusesConnectionAcrossSends() {
+		mailSender = sender(100);
+
+		for (int i = 0; i < 5; i++) {
+			mailSender.send(message(i));
+		}
+
+		assertThat(greenMail.getReceivedMessages()).hasSize(5);
+		assertThat(connects.get()).isEqualTo(1);
+	}
+
+	@Test
+	void recyclesConnectionAfterMessageLimit() {
+		mailSender = sender(2);
+
+		for (int i = 0; i < 5; i++) {
+			mailSender.send(message(i));
+		}
+
+		assertThat(greenMail.getReceivedMessages()).hasSize(5);
+		assertThat(connects.get()).isEqualTo(3);
+	}
+
+	private PooledJavaMailSender sender(int maxMessagesPerConnection) {
+		PooledJavaMailSender sender = new PooledJavaMailSender(2, maxMessagesPerConnection, 60_000, 600_000, 5_000, 1_000) {
+			@Override
+			protected Transport connectTransport() throws MessagingException {
+				connects.incrementAndGet();
+				return super.connectTransport();
+			}
+		};
+		sender.setHost("localhost");
+		sender.setPort(ServerSetupTest.SMTP.getPort());
+		return sender;
+	}
+
+	private SimpleMailMessage message(int i) {
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setFrom("noreply@paramsoft.org");
+		message.setTo("user" + i + "@paramsoft.org");
+		message.setSubject("Password Reset OTP");
+		message.setText("Your OTP is " + i);
+		return message;
+	}
+}
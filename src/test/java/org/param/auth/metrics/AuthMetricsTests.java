@@ -0,0 +1,54 @@
+package org.param.auth.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.exception.InvalidCredentialsException;
+import org.param.auth.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthMetricsTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private AuthMetrics authMetrics;
+
+	@BeforeEach
+	void setUp() {
+		authMetrics = new AuthMetrics(meterRegistry);
+		authMetrics.init();
+	}
+
+	@Test
+	void registersEveryCombinationUpFront() {
+		int outcomes = Outcome.values().length;
+
+		assertThat(meterRegistry.find("auth.service.operation").timers())
+				.hasSize(AuthOperation.values().length * outcomes);
+		assertThat(meterRegistry.find("auth.service.phase").timers()).hasSize(AuthPhase.values().length * outcomes);
+	}
+
+	@Test
+	void tagsPhaseByOutcome() {
+		assertThat(authMetrics.time(AuthPhase.LOGIN_LOOKUP, () -> "found")).isEqualTo("found");
+		assertThatThrownBy(() -> authMetrics.time(AuthPhase.LOGIN_LOOKUP, () -> {
+			throw new InvalidCredentialsException("Invalid credentials");
+		})).isInstanceOf(InvalidCredentialsException.class);
+		assertThatThrownBy(() -> authMetrics.time(AuthOperation.LOGIN, () -> {
+			throw new ServiceBusyException("busy");
+		})).isInstanceOf(ServiceBusyException.class);
+
+		assertThat(phaseCount("user_lookup", "success")).isEqualTo(1);
+		assertThat(phaseCount("user_lookup", "rejected")).isEqualTo(1);
+		assertThat(meterRegistry.get("auth.service.operation").tag("operation", "login").tag("outcome", "busy").timer()
+				.count()).isEqualTo(1);
+	}
+
+	private long phaseCount(String phase, String outcome) {
+		return meterRegistry.get("auth.service.phase").tag("operation", "login").tag("phase", phase)
+				.tag("outcome", outcome).timer().count();
+	}
+}
@@ -0,0 +1,122 @@
+package org.param.auth.otp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.cache.UserLookupCache;
+import org.param.auth.exception.InvalidOtpException;
+import org.param.auth.model.User;
+import org.param.auth.repository.OtpTokenRepository;
+import org.param.auth.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"auth.email-filter.enabled=false",
+		"auth.purge.enabled=false",
+		"auth.otp.store=hmac",
+		"auth.otp.expiry-minutes=10",
+		"auth.otp.hmac.secret=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=" })
+class HmacOtpStoreTests {
+
+	private static final String EMAIL = "hmac.otp@example.com";
+	private static final Instant NOW = Instant.parse("2026-10-19T10:00:00Z");
+
+	@Autowired
+	private OtpStore otpStore;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private OtpTokenRepository otpTokenRepository;
+
+	@Autowired
+	private UserLookupCache userLookupCache;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.save(User.builder().email(EMAIL).password("$2a$04$initialhash").fullName("Hmac Otp")
+				.mobileNo("9000000002").roles(Set.of("USER")).isVerified(true).build());
+		setClock(NOW);
+	}
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteAll();
+		userLookupCache.invalidate(EMAIL);
+	}
+
+	@Test
+	void redeemsWithoutStoringRows() {
+		assertThat(otpStore).isInstanceOf(HmacOtpStore.class);
+
+		String otp = otpStore.issue(EMAIL);
+
+		assertThat(otp).hasSize(6).containsOnlyDigits();
+		otpStore.consume(EMAIL, otp);
+		assertThat(otpTokenRepository.count()).isZero();
+	}
+
+	@Test
+	void passwordChangeRetiresOutstandingCodes() {
+		String otp = otpStore.issue(EMAIL);
+
+		User user = userRepository.findByEmail(EMAIL).orElseThrow();
+		user.setPassword("$2a$04$changedhash");
+		userRepository.save(user);
+		userLookupCache.invalidate(EMAIL);
+
+		assertThatThrownBy(() -> otpStore.consume(EMAIL, otp)).isInstanceOf(InvalidOtpException.class);
+	}
+
+	@Test
+	void issuesFromTheStoredHashNotACachedSnapshot() {
+		userLookupCache.findByEmail(EMAIL);
+
+		// As if another instance reset the password: this instance's snapshot is now stale
+		User user = userRepository.findByEmail(EMAIL).orElseThrow();
+		user.setPassword("$2a$04$resetelsewhere");
+		userRepository.save(user);
+
+		otpStore.consume(EMAIL, otpStore.issue(EMAIL));
+	}
+
+	@Test
+	void acceptsPreviousWindowOnly() {
+		String otp = otpStore.issue(EMAIL);
+
+		setClock(NOW.plus(Duration.ofMinutes(5)));
+		otpStore.consume(EMAIL, otp);
+
+		setClock(NOW.plus(Duration.ofMinutes(10)));
+		assertThatThrownBy(() -> otpStore.consume(EMAIL, otp)).hasMessage("Invalid OTP");
+	}
+
+	@Test
+	void rejectsWrongCodesAndUnknownUsers() {
+		String otp = otpStore.issue(EMAIL);
+		String wrong = otp.equals("000000") ? "000001" : "000000";
+
+		assertThatThrownBy(() -> otpStore.consume(EMAIL, wrong)).hasMessage("Invalid OTP");
+		assertThatThrownBy(() -> otpStore.consume(EMAIL, "12345")).hasMessage("Invalid OTP");
+		assertThatThrownBy(() -> otpStore.consume("nobody@example.com", otp)).hasMessage("Invalid OTP");
+	}
+
+	private void setClock(Instant instant) {
+		ReflectionTestUtils.setField(otpStore, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+	}
+}
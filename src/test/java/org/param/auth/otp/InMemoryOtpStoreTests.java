@@ -0,0 +1,137 @@
+package org.param.auth.otp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.exception.InvalidOtpException;
+import org.param.auth.exception.ServiceBusyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InMemoryOtpStoreTests {
+
+	private static final String EMAIL = "otp@example.com";
+
+	private InMemoryOtpStore store;
+
+	@AfterEach
+	void tearDown() {
+		store.destroy();
+	}
+
+	@Test
+	void redeemsCodeOnce() {
+		store = store(10, 100);
+		String otp = store.issue(EMAIL);
+
+		store.consume("  OTP@example.com ", otp);
+
+		assertThatThrownBy(() -> store.consume(EMAIL, otp)).isInstanceOf(InvalidOtpException.class);
+	}
+
+	@Test
+	void checkLeavesCodeRedeemable() {
+		store = store(10, 100);
+		String otp = store.issue(EMAIL);
+
+		store.check(EMAIL, otp);
+		store.check(EMAIL, otp);
+		store.consume(EMAIL, otp);
+
+		assertThatThrownBy(() -> store.check(EMAIL, otp)).isInstanceOf(InvalidOtpException.class);
+	}
+
+	@Test
+	void rejectsWrongAndSupersededCodes() {
+		store = store(10, 100);
+		String first = store.issue(EMAIL);
+		String second = store.issue(EMAIL);
+
+		if (!first.equals(second)) {
+			assertThatThrownBy(() -> store.consume(EMAIL, first)).hasMessage("Invalid OTP");
+		}
+		assertThatThrownBy(() -> store.consume("nobody@example.com", second)).hasMessage("Invalid OTP");
+
+		store.consume(EMAIL, second);
+	}
+
+	@Test
+	void onlyOneConcurrentRedeemWins() throws Exception {
+		store = store(10, 100);
+		String otp = store.issue(EMAIL);
+
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				try {
+					store.consume(EMAIL, otp);
+					return true;
+				} catch (InvalidOtpException e) {
+					return false;
+				}
+			}));
+		}
+		start.countDown();
+
+		int wins = 0;
+		for (Future<Boolean> result : results) {
+			wins += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+		}
+		executor.shutdown();
+
+		assertThat(wins).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsIssueBeyondCap() {
+		store = store(10, 2);
+		store.issue("a@example.com");
+		store.issue("b@example.com");
+
+		assertThatThrownBy(() -> store.issue("c@example.com")).isInstanceOf(ServiceBusyException.class);
+	}
+
+	@Test
+	void wheelReclaimsExpiredEntries() throws Exception {
+		store = store(0, 100);
+		store.issue(EMAIL);
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (entryCount() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+
+		assertThat(entryCount()).isZero();
+	}
+
+	private int entryCount() {
+		return ((Map<?, ?>) ReflectionTestUtils.getField(store, "entries")).size();
+	}
+
+	private static InMemoryOtpStore store(long expiryMinutes, int maxEntries) {
+		InMemoryOtpStore store = new InMemoryOtpStore(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(store, "expiryMinutes", expiryMinutes);
+		ReflectionTestUtils.setField(store, "maxEntries", maxEntries);
+		ReflectionTestUtils.setField(store, "tickMs", 10L);
+		ReflectionTestUtils.setField(store, "wheelSize", 64);
+		store.init();
+		return store;
+	}
+}
@@ -0,0 +1,69 @@
+package org.param.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class AccessTokenMinterTests {
+
+	private static final long ISSUED_AT = 1_760_868_123_456L;
+	private static final long EXPIRATION = ISSUED_AT + 3_600_000L;
+
+	@ParameterizedTest
+	@EnumSource(value = JwtAlgorithm.class, names = { "RS256", "EdDSA" })
+	void mintsTheSameBytesAsJjwt(JwtAlgorithm algorithm) throws Exception {
+		JwtKey key = key(algorithm);
+		AccessTokenMinter minter = AccessTokenMinter.forKey(key);
+		assertThat(minter).isNotNull();
+
+		List<Set<String>> roleSets = List.of(Set.of("USER"), Set.of("USER", "ADMIN"),
+				new LinkedHashSet<>(List.of("ADMIN", "USER", "AUDITOR")),
+				new LinkedHashSet<>(List.of("AUDITOR", "ADMIN", "USER")));
+
+		for (String subject : List.of("a@b.io", "first.last+tag@paramsoft.org", "x".repeat(200) + "@example.com")) {
+			for (Set<String> roles : roleSets) {
+				// Twice, so the second round is served from the cached role fragment
+				for (int round = 0; round < 2; round++) {
+					assertThat(minter.mint(subject, roles, ISSUED_AT, EXPIRATION))
+							.isEqualTo(AccessTokenMinter.build(key, subject, roles, new Date(ISSUED_AT), new Date(EXPIRATION)));
+				}
+			}
+		}
+	}
+
+	@Test
+	void declinesInputItCannotReproduce() throws Exception {
+		AccessTokenMinter minter = AccessTokenMinter.forKey(key(JwtAlgorithm.RS256));
+
+		assertThat(minter.mint("quote\"@example.com", Set.of("USER"), ISSUED_AT, EXPIRATION)).isNull();
+		assertThat(minter.mint("müller@example.com", Set.of("USER"), ISSUED_AT, EXPIRATION)).isNull();
+		assertThat(minter.mint("user@example.com", Set.of("back\\slash"), ISSUED_AT, EXPIRATION)).isNull();
+		assertThat(minter.mint("user@example.com", Set.of(), ISSUED_AT, EXPIRATION)).isNull();
+	}
+
+	@Test
+	void leavesEs256ToJjwt() throws Exception {
+		assertThat(AccessTokenMinter.forKey(key(JwtAlgorithm.ES256))).isNull();
+	}
+
+	private static JwtKey key(JwtAlgorithm algorithm) throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+		if (algorithm == JwtAlgorithm.RS256) {
+			generator.initialize(2048);
+		} else if (algorithm == JwtAlgorithm.ES256) {
+			generator.initialize(new ECGenParameterSpec("secp256r1"));
+		}
+		KeyPair keyPair = generator.generateKeyPair();
+		return new JwtKey("test-" + algorithm.name(), algorithm, keyPair.getPrivate(), keyPair.getPublic());
+	}
+}
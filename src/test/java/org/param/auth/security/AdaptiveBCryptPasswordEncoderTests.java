@@ -0,0 +1,53 @@
+package org.param.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder.BCryptVersion;
+
+class AdaptiveBCryptPasswordEncoderTests {
+
+	private static final String SALT_AND_HASH = "N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+	@Test
+	void readsTheCostOfEveryBCryptVariant() {
+		assertThat(AdaptiveBCryptPasswordEncoder.costOf("$2a$10$" + SALT_AND_HASH)).isEqualTo(10);
+		assertThat(AdaptiveBCryptPasswordEncoder.costOf("$2b$12$" + SALT_AND_HASH)).isEqualTo(12);
+		assertThat(AdaptiveBCryptPasswordEncoder.costOf("$2y$04$" + SALT_AND_HASH)).isEqualTo(4);
+
+		String generated = new BCryptPasswordEncoder(BCryptVersion.$2Y, 5).encode("P@ssw0rd");
+		assertThat(AdaptiveBCryptPasswordEncoder.costOf(generated)).isEqualTo(5);
+	}
+
+	@Test
+	void neverRehashesAMalformedHash() {
+		AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(12);
+
+		assertThat(encoder.upgradeEncoding(null)).isFalse();
+		assertThat(encoder.upgradeEncoding("")).isFalse();
+		assertThat(encoder.upgradeEncoding("plain-text-password")).isFalse();
+		assertThat(encoder.upgradeEncoding("$2a$xx$" + SALT_AND_HASH)).isFalse();
+		assertThat(encoder.upgradeEncoding("$2a$00$" + SALT_AND_HASH)).isFalse();
+		assertThat(encoder.upgradeEncoding("{noop}secret")).isFalse();
+	}
+
+	@Test
+	void onlyRehashesUpwards() {
+		AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(10);
+
+		assertThat(encoder.upgradeEncoding("$2a$08$" + SALT_AND_HASH)).isTrue();
+		assertThat(encoder.upgradeEncoding("$2a$10$" + SALT_AND_HASH)).isFalse();
+		// Made by a node calibrated higher; leave it alone
+		assertThat(encoder.upgradeEncoding("$2a$12$" + SALT_AND_HASH)).isFalse();
+	}
+
+	@Test
+	void calibrationStaysWithinItsBounds() {
+		// Nothing is fast enough for a zero target, so the minimum is the floor
+		assertThat(BCryptCostCalibrator.calibrate(0, 4, 6)).isEqualTo(4);
+		// Everything fits an hour, so the maximum is the ceiling
+		assertThat(BCryptCostCalibrator.calibrate(3_600_000, 4, 6)).isEqualTo(6);
+		assertThat(BCryptCostCalibrator.calibrate(3_600_000, 5, 5)).isEqualTo(5);
+	}
+}
@@ -0,0 +1,192 @@
+package org.param.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.cache.UserLookupCache;
+import org.param.auth.exception.TooManyRequestsException;
+import org.param.auth.model.User;
+import org.param.auth.repository.UserRepository;
+import org.param.auth.security.AuthRateLimiter.Endpoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The limiter as the controller applies it: 429 with Retry-After once the client's bucket is empty.
+ */
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"auth.email-filter.enabled=false",
+		"auth.purge.enabled=false",
+		"auth.rate-limit.enabled=true",
+		"auth.rate-limit.forgot-password.per-ip-capacity=2",
+		"auth.rate-limit.forgot-password.per-ip-per-minute=1",
+		"auth.rate-limit.login.per-email-capacity=2",
+		"auth.rate-limit.login.per-email-per-minute=1" })
+class AuthRateLimiterTests {
+
+	private static final String FORGOT_PASSWORD = "/service/v1.0/auth/forgot-password";
+	private static final String LOGIN = "/service/v1.0/auth/login";
+	private static final String EMAIL = "rate.limit@example.com";
+	private static final String PASSWORD = "Secret#123";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private UserLookupCache userLookupCache;
+
+	@AfterEach
+	void tearDown() {
+		userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+		userLookupCache.invalidate(EMAIL);
+	}
+
+	@Test
+	void rejectsWithRetryAfterOnceTheIpBucketIsEmpty() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(forgotPassword("nobody" + i + "@example.com", "203.0.113.7"))
+				   .andExpect(status().isOk());
+		}
+
+		mockMvc.perform(forgotPassword("nobody2@example.com", "203.0.113.7"))
+			   .andExpect(status().isTooManyRequests())
+			   .andExpect(header().string("Retry-After", "60"))
+			   .andExpect(jsonPath("$.status").value(429));
+
+		// Another client still has its own bucket
+		mockMvc.perform(forgotPassword("nobody3@example.com", "203.0.113.8"))
+			   .andExpect(status().isOk());
+	}
+
+	@Test
+	void sharesOneBucketAcrossAnIpv6Slash64() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(forgotPassword("v6-" + i + "@example.com", "2001:db8:1:2::" + (i + 1)))
+				   .andExpect(status().isOk());
+		}
+
+		mockMvc.perform(forgotPassword("v6-2@example.com", "2001:db8:1:2:ffff::9"))
+			   .andExpect(status().isTooManyRequests());
+		mockMvc.perform(forgotPassword("v6-3@example.com", "2001:db8:1:3::1"))
+			   .andExpect(status().isOk());
+	}
+
+	@Test
+	void successfulLoginsLeaveTheEmailBucketAlone() throws Exception {
+		saveUser();
+
+		for (int i = 0; i < 4; i++) {
+			mockMvc.perform(login(PASSWORD, "203.0.113.20"))
+				   .andExpect(status().isOk());
+		}
+	}
+
+	@Test
+	void failedLoginsUseUpTheEmailBucket() throws Exception {
+		saveUser();
+
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(login("Wrong#123", "203.0.113.21"))
+				   .andExpect(status().isUnauthorized());
+		}
+
+		// The right password from another client is held back too until the failures refill
+		mockMvc.perform(login(PASSWORD, "203.0.113.22"))
+			   .andExpect(status().isTooManyRequests())
+			   .andExpect(header().string("Retry-After", "60"));
+	}
+
+	@Test
+	void trustedCallersSkipTheIntrospectionLimit() {
+		AuthRateLimiter limiter = limiter(new MockEnvironment()
+				.withProperty("auth.rate-limit.introspect.per-ip-capacity", "100")
+				.withProperty("auth.rate-limit.introspect.per-ip-per-minute", "1")
+				.withProperty("auth.rate-limit.introspect.trusted-callers", "10.0.0.0/8, 192.168.1.20"));
+
+		for (int i = 0; i < 5; i++) {
+			assertThatCode(() -> limiter.check(Endpoint.INTROSPECT, "10.1.2.3", 100)).doesNotThrowAnyException();
+			assertThatCode(() -> limiter.check(Endpoint.INTROSPECT, "192.168.1.20", 100)).doesNotThrowAnyException();
+		}
+
+		limiter.check(Endpoint.INTROSPECT, "203.0.113.30", 100);
+		assertThatThrownBy(() -> limiter.check(Endpoint.INTROSPECT, "203.0.113.30", 1))
+				.isInstanceOf(TooManyRequestsException.class);
+	}
+
+	@Test
+	void refusesAnIntrospectionBucketSmallerThanTheLargestBatch() {
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("auth.rate-limit.introspect.per-ip-capacity", "99");
+
+		assertThatThrownBy(() -> limiter(environment))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("auth.rate-limit.introspect.per-ip-capacity");
+	}
+
+	@Test
+	void groupsClientKeys() {
+		assertThat(AuthRateLimiter.clientKey("203.0.113.7")).isEqualTo("203.0.113.7");
+		assertThat(AuthRateLimiter.clientKey("::ffff:203.0.113.7")).isEqualTo("203.0.113.7");
+		assertThat(AuthRateLimiter.clientKey("2001:db8:1:2:aaaa::1"))
+				.isEqualTo(AuthRateLimiter.clientKey("2001:0db8:0001:0002:bbbb:cccc:dddd:eeee"))
+				.isEqualTo("20010db800010002/64");
+	}
+
+	private static AuthRateLimiter limiter(MockEnvironment environment) {
+		AuthRateLimiter limiter = new AuthRateLimiter(environment, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(limiter, "enabled", true);
+		ReflectionTestUtils.setField(limiter, "maxKeys", 1_000);
+		ReflectionTestUtils.setField(limiter, "stripes", 4);
+		limiter.init();
+		return limiter;
+	}
+
+	private void saveUser() {
+		userRepository.save(User.builder().email(EMAIL).password(passwordEncoder.encode(PASSWORD))
+				.fullName("Rate Limit").mobileNo("9000000002").roles(Set.of("USER"))
+				.isVerified(true).build());
+	}
+
+	private static RequestBuilder login(String password, String clientIp) {
+		return post(LOGIN).with(request -> {
+			request.setRemoteAddr(clientIp);
+			return request;
+		}).contentType(MediaType.APPLICATION_JSON)
+		  .content("{\"email\":\"" + EMAIL + "\",\"password\":\"" + password + "\"}");
+	}
+
+	private static RequestBuilder forgotPassword(String email, String clientIp) {
+		return post(FORGOT_PASSWORD).with(request -> {
+			request.setRemoteAddr(clientIp);
+			return request;
+		}).contentType(MediaType.APPLICATION_JSON).content("{\"email\":\"" + email + "\"}");
+	}
+}
@@ -0,0 +1,209 @@
+package org.param.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.exception.AuthGlobalExceptionHandler;
+import org.param.auth.exception.ServiceBusyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+	private final GatedEncoder delegate = new GatedEncoder();
+
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		delegate.open();
+		callers.shutdownNow();
+		if (encoder != null) {
+			encoder.destroy();
+		}
+	}
+
+	@Test
+	void rejectsWithRetryAfterOnceThePoolAndQueueAreFull() throws Exception {
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, 10_000, meterRegistry);
+		Future<String> running = callers.submit(() -> encoder.encode("running"));
+		awaitTrue(() -> delegate.started.get() == 1);
+		Future<String> queued = callers.submit(() -> encoder.encode("queued"));
+		awaitTrue(() -> availablePermits() == 0);
+
+		ServiceBusyException busy = catchBusy(() -> encoder.encode("third"));
+
+		ResponseEntity<?> response = new AuthGlobalExceptionHandler().handleServiceBusy(busy, null);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(meterRegistry.counter("auth.password.hashing.rejected").count()).isEqualTo(1);
+
+		delegate.open();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:running");
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:queued");
+	}
+
+	@Test
+	void queuedTaskAbandonedOnTimeoutFreesItsPermit() throws Exception {
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, 100, meterRegistry);
+		callers.submit(() -> encoder.encode("running"));
+		awaitTrue(() -> delegate.started.get() == 1);
+
+		// Waits behind the running hash, times out and gives its slot back straight away
+		catchBusy(() -> encoder.encode("queued"));
+
+		assertThat(availablePermits()).isEqualTo(1);
+		assertThat(executor().getQueue()).isEmpty();
+
+		delegate.open();
+		awaitTrue(() -> availablePermits() == 2);
+		assertThat(delegate.started.get()).isEqualTo(1);
+	}
+
+	@Test
+	void runningTaskKeepsItsPermitUntilTheHashFinishes() throws Exception {
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, 100, meterRegistry);
+
+		catchBusy(() -> encoder.encode("slow"));
+
+		// The caller is gone but the worker is still hashing
+		assertThat(delegate.started.get()).isEqualTo(1);
+		assertThat(availablePermits()).isEqualTo(1);
+		assertThat(meterRegistry.counter("auth.password.hashing.abandoned").count()).isEqualTo(1);
+
+		delegate.open();
+		awaitTrue(() -> availablePermits() == 2);
+		assertThat(delegate.finished.get()).isEqualTo(1);
+	}
+
+	@Test
+	void permitsReturnToTheInitialCountUnderMixedLoad() throws Exception {
+		PasswordEncoder jittery = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				sleepQuietly(ThreadLocalRandom.current().nextInt(0, 20));
+				return "hash:" + rawPassword;
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encode(rawPassword).equals(encodedPassword);
+			}
+		};
+		encoder = new BoundedPasswordEncoder(jittery, 2, 4, 25, meterRegistry);
+
+		List<Future<?>> calls = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			String password = "p" + i;
+			calls.add(callers.submit(() -> {
+				try {
+					encoder.matches(password, "hash:" + password);
+				} catch (ServiceBusyException e) {
+					// expected for part of the load
+				}
+			}));
+		}
+		for (Future<?> call : calls) {
+			call.get(30, TimeUnit.SECONDS);
+		}
+
+		awaitTrue(() -> executor().getActiveCount() == 0 && executor().getQueue().isEmpty());
+		assertThat(availablePermits()).isEqualTo(6);
+	}
+
+	private int availablePermits() {
+		return ((Semaphore) ReflectionTestUtils.getField(encoder, "permits")).availablePermits();
+	}
+
+	private ThreadPoolExecutor executor() {
+		return (ThreadPoolExecutor) ReflectionTestUtils.getField(encoder, "executor");
+	}
+
+	private static ServiceBusyException catchBusy(Runnable call) {
+		ServiceBusyException[] thrown = new ServiceBusyException[1];
+		assertThatThrownBy(() -> {
+			try {
+				call.run();
+			} catch (ServiceBusyException e) {
+				thrown[0] = e;
+				throw e;
+			}
+		}).isInstanceOf(ServiceBusyException.class);
+		return thrown[0];
+	}
+
+	private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Stands in for BCrypt: ignores interrupts and holds its worker until opened
+	private static final class GatedEncoder implements PasswordEncoder {
+
+		private final CountDownLatch gate = new CountDownLatch(1);
+		private final AtomicInteger started = new AtomicInteger();
+		private final AtomicInteger finished = new AtomicInteger();
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			started.incrementAndGet();
+			boolean interrupted = false;
+			while (true) {
+				try {
+					gate.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			finished.incrementAndGet();
+			return "hash:" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encode(rawPassword).equals(encodedPassword);
+		}
+
+		void open() {
+			gate.countDown();
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package org.param.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.param.auth.service.impl.JwtServiceImpl;
+import org.param.auth.util.PemKeyUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTests {
+
+	private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+	private static final String TOKEN = "header.payload.signature";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void servesARepeatCheckWithoutTheParser() throws Exception {
+		VerifiedTokenCache cache = cache(keyRing("current"));
+		CountingVerifier verifier = new CountingVerifier(verified(NOW.plusSeconds(60)));
+
+		Optional<VerifiedToken> first = cache.verify(TOKEN, verifier);
+		Optional<VerifiedToken> second = cache.verify(TOKEN, verifier);
+
+		assertThat(second).containsSame(first.orElseThrow());
+		assertThat(verifier.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void stopsServingAnEntryAtTheTokensExpiry() throws Exception {
+		VerifiedTokenCache cache = cache(keyRing("current"));
+		cache.verify(TOKEN, new CountingVerifier(verified(NOW.plusSeconds(60))));
+
+		setClock(cache, NOW.plusSeconds(60));
+		// The parser rejects the token once it has expired
+		CountingVerifier parser = new CountingVerifier(Optional.empty());
+
+		assertThat(cache.verify(TOKEN, parser)).isEmpty();
+		assertThat(parser.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotCacheRejectedTokens() throws Exception {
+		VerifiedTokenCache cache = cache(keyRing("current"));
+		CountingVerifier rejecting = new CountingVerifier(Optional.empty());
+
+		assertThat(cache.verify(TOKEN, rejecting)).isEmpty();
+		assertThat(cache.verify(TOKEN, rejecting)).isEmpty();
+
+		assertThat(rejecting.calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void dropsEverythingWhenTheKeyRingReloads() throws Exception {
+		JwtKeyRing keyRing = keyRing("revoked");
+		// Real time, so the freshly minted token is cached rather than already past its expiry
+		VerifiedTokenCache cache = cache(keyRing, Clock.systemUTC());
+		JwtServiceImpl jwtService = jwtService(keyRing, cache);
+
+		String token = jwtService.generateAccessToken("user@paramsoft.org", Set.of("USER"));
+		assertThat(jwtService.verify(token)).isPresent();
+
+		// The kid is revoked: its key goes and a replacement signs from now on
+		writePrivateKey("replacement", NOW.minus(Duration.ofDays(1)));
+		Files.delete(directory.resolve("revoked.key.pem"));
+		ReflectionTestUtils.invokeMethod(keyRing, "reload", directory);
+
+		assertThat(jwtService.verify(token)).isEmpty();
+	}
+
+	private VerifiedTokenCache cache(JwtKeyRing keyRing) {
+		return cache(keyRing, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	private VerifiedTokenCache cache(JwtKeyRing keyRing, Clock clock) {
+		VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), keyRing);
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 1_000L);
+		ReflectionTestUtils.setField(cache, "clock", clock);
+		cache.init();
+		return cache;
+	}
+
+	private JwtKeyRing keyRing(String kid) throws Exception {
+		writePrivateKey(kid, NOW.minus(Duration.ofDays(30)));
+
+		JwtKeyRing keyRing = new JwtKeyRing();
+		ReflectionTestUtils.setField(keyRing, "signingAlgorithm", JwtAlgorithm.RS256);
+		ReflectionTestUtils.setField(keyRing, "keyDirectory", directory.toString());
+		ReflectionTestUtils.setField(keyRing, "signingKid", "");
+		ReflectionTestUtils.setField(keyRing, "publishDelaySeconds", 300L);
+		ReflectionTestUtils.setField(keyRing, "clock", Clock.fixed(NOW, ZoneOffset.UTC));
+		ReflectionTestUtils.setField(keyRing, "keySet", ReflectionTestUtils.invokeMethod(keyRing, "loadDirectory", directory));
+		return keyRing;
+	}
+
+	private static JwtServiceImpl jwtService(JwtKeyRing keyRing, VerifiedTokenCache cache) {
+		JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, cache);
+		ReflectionTestUtils.setField(jwtService, "accessTokenValidity", 3_600_000L);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenValidity", 604_800_000L);
+		ReflectionTestUtils.setField(jwtService, "fastMinting", true);
+		jwtService.init();
+		return jwtService;
+	}
+
+	private static void setClock(VerifiedTokenCache cache, Instant now) {
+		ReflectionTestUtils.setField(cache, "clock", Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	private static Optional<VerifiedToken> verified(Instant expiresAt) {
+		return Optional.of(VerifiedToken.of("user@paramsoft.org", Set.of("USER"), NOW, expiresAt, true));
+	}
+
+	private void writePrivateKey(String kid, Instant writtenAt) throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		Path file = Files.writeString(directory.resolve(kid + ".key.pem"),
+				PemKeyUtil.toPem("PRIVATE KEY", generator.generateKeyPair().getPrivate().getEncoded()));
+		Files.setLastModifiedTime(file, FileTime.from(writtenAt));
+	}
+
+	private static final class CountingVerifier implements Function<String, Optional<VerifiedToken>> {
+
+		private final AtomicInteger calls = new AtomicInteger();
+		private final Optional<VerifiedToken> result;
+
+		private CountingVerifier(Optional<VerifiedToken> result) {
+			this.result = result;
+		}
+
+		@Override
+		public Optional<VerifiedToken> apply(String token) {
+			calls.incrementAndGet();
+			return result;
+		}
+	}
+}
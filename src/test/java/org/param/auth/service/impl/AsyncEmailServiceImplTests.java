@@ -0,0 +1,79 @@
+package org.param.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.param.auth.service.impl.AsyncEmailServiceImpl.OverflowPolicy;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncEmailServiceImplTests {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private AsyncEmailServiceImpl emailService;
+
+	@BeforeEach
+	void setUp() {
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+		emailService = new AsyncEmailServiceImpl(new EmailServiceImpl(mailSender), meterRegistry);
+		ReflectionTestUtils.setField(emailService, "queueCapacity", 100);
+		ReflectionTestUtils.setField(emailService, "workerCount", 2);
+		ReflectionTestUtils.setField(emailService, "batchSize", 10);
+		ReflectionTestUtils.setField(emailService, "maxAttempts", 3);
+		ReflectionTestUtils.setField(emailService, "initialBackoffMs", 50L);
+		ReflectionTestUtils.setField(emailService, "maxBackoffMs", 200L);
+		ReflectionTestUtils.setField(emailService, "overflowPolicy", OverflowPolicy.DROP_NEWEST);
+		ReflectionTestUtils.setField(emailService, "shutdownTimeoutMs", 5000L);
+		emailService.init();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		emailService.shutdown();
+	}
+
+	@Test
+	void deliversQueuedMailThroughWorkers() throws InterruptedException {
+		for (int i = 0; i < 25; i++) {
+			emailService.sendEmail("user" + i + "@paramsoft.org", "Password Reset OTP", "Your OTP is " + i);
+		}
+
+		assertThat(greenMail.waitForIncomingEmail(10_000, 25)).isTrue();
+		assertThat(greenMail.getReceivedMessages()).hasSize(25);
+
+		// GreenMail has the messages before the worker gets back from send() to count them
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (meterRegistry.counter("auth.mail.sent").count() < 25 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(meterRegistry.counter("auth.mail.sent").count()).isEqualTo(25);
+	}
+
+	@Test
+	void drainsQueueOnShutdown() throws InterruptedException {
+		for (int i = 0; i < 10; i++) {
+			emailService.sendEmail("user" + i + "@paramsoft.org", "Password Reset OTP", "Your OTP is " + i);
+		}
+
+		emailService.shutdown();
+
+		assertThat(greenMail.getReceivedMessages()).hasSize(10);
+	}
+}
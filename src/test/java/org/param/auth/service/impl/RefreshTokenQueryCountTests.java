@@ -0,0 +1,117 @@
+package org.param.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.cache.UserLookupCache;
+import org.param.auth.dto.AuthResponse;
+import org.param.auth.dto.LoginRequest;
+import org.param.auth.dto.RefreshTokenRequest;
+import org.param.auth.model.User;
+import org.param.auth.repository.RefreshTokenRepository;
+import org.param.auth.repository.UserRepository;
+import org.param.auth.service.AuthService;
+import org.param.auth.service.impl.AuthServiceImpl.RefreshTokenMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the refresh path against extra round trips: one SQL statement per refresh, whatever the
+ * number of roles.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"auth.email-filter.enabled=false",
+		"auth.purge.enabled=false" })
+class RefreshTokenQueryCountTests {
+
+	private static final String EMAIL = "refresh.count@example.com";
+	private static final String PASSWORD = "Secret#123";
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private UserLookupCache userLookupCache;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.save(User.builder().email(EMAIL).password(passwordEncoder.encode(PASSWORD))
+				.fullName("Refresh Count").mobileNo("9000000001").roles(Set.of("USER", "ADMIN"))
+				.isVerified(true).build());
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void tearDown() {
+		setRefreshTokenMode(RefreshTokenMode.JWT);
+		refreshTokenRepository.deleteAll();
+		userRepository.deleteAll();
+		// The next test recreates the user under a new id
+		userLookupCache.invalidate(EMAIL);
+	}
+
+	@Test
+	void opaqueRefreshRunsOneStatement() {
+		setRefreshTokenMode(RefreshTokenMode.OPAQUE);
+
+		assertSingleStatementRefresh();
+	}
+
+	@Test
+	void jwtRefreshRunsOneStatement() {
+		setRefreshTokenMode(RefreshTokenMode.JWT);
+
+		assertSingleStatementRefresh();
+	}
+
+	private void assertSingleStatementRefresh() {
+		LoginRequest loginRequest = new LoginRequest();
+		loginRequest.setEmail(EMAIL);
+		loginRequest.setPassword(PASSWORD);
+		AuthResponse login = authService.login(loginRequest);
+
+		RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+		refreshRequest.setRefreshToken(login.getRefreshToken());
+
+		statistics.clear();
+		AuthResponse refreshed = authService.refreshToken(refreshRequest);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(refreshed.getRefreshToken()).isEqualTo(login.getRefreshToken());
+		assertThat(refreshed.getToken()).isNotBlank();
+	}
+
+	private void setRefreshTokenMode(RefreshTokenMode mode) {
+		ReflectionTestUtils.setField(AopTestUtils.getTargetObject(authService), "refreshTokenMode", mode);
+	}
+}
@@ -0,0 +1,98 @@
+package org.param.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.param.auth.dto.IntrospectRequest;
+import org.param.auth.dto.TokenIntrospection;
+import org.param.auth.security.JwtAlgorithm;
+import org.param.auth.security.JwtKeyRing;
+import org.param.auth.security.VerifiedTokenCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenIntrospectionServiceImplTests {
+
+	private static final String SUBJECT = "introspect.user@paramsoft.org";
+
+	private JwtKeyRing keyRing;
+	private JwtServiceImpl jwtService;
+	private TokenIntrospectionServiceImpl introspectionService;
+
+	@BeforeEach
+	void setUp() {
+		keyRing = new JwtKeyRing();
+		ReflectionTestUtils.setField(keyRing, "signingAlgorithm", JwtAlgorithm.RS256);
+		ReflectionTestUtils.setField(keyRing, "privateKeyLocation", "classpath:private_key.pem");
+		ReflectionTestUtils.setField(keyRing, "publicKeyLocation", "");
+		ReflectionTestUtils.setField(keyRing, "keyDirectory", "");
+		ReflectionTestUtils.setField(keyRing, "signingKid", "");
+		keyRing.init();
+
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), keyRing);
+		ReflectionTestUtils.setField(verifiedTokenCache, "enabled", true);
+		ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 1_000L);
+		verifiedTokenCache.init();
+
+		jwtService = new JwtServiceImpl(keyRing, verifiedTokenCache);
+		ReflectionTestUtils.setField(jwtService, "accessTokenValidity", 3_600_000L);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenValidity", 604_800_000L);
+		ReflectionTestUtils.setField(jwtService, "fastMinting", true);
+		jwtService.init();
+
+		introspectionService = new TokenIntrospectionServiceImpl(jwtService);
+		ReflectionTestUtils.setField(introspectionService, "parallelThreshold", 32);
+		ReflectionTestUtils.setField(introspectionService, "parallelism", 1);
+		introspectionService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		introspectionService.shutdown();
+		keyRing.shutdown();
+	}
+
+	@Test
+	void accessTokenIsActive() {
+		TokenIntrospection result = introspect(jwtService.generateAccessToken(SUBJECT, Set.of("USER")));
+
+		assertThat(result.isActive()).isTrue();
+		assertThat(result.getSubject()).isEqualTo(SUBJECT);
+		assertThat(result.getRoles()).containsExactly("USER");
+	}
+
+	@Test
+	void accessTokenWithoutRolesIsActive() {
+		// JJWT leaves out an empty roles claim, so the token carries no roles at all
+		TokenIntrospection result = introspect(jwtService.generateAccessToken(SUBJECT, Set.of()));
+
+		assertThat(result.isActive()).isTrue();
+		assertThat(result.getSubject()).isEqualTo(SUBJECT);
+		assertThat(result.getRoles()).isEmpty();
+	}
+
+	@Test
+	void refreshTokenIsInactive() {
+		TokenIntrospection result = introspect(jwtService.generateRefreshToken(SUBJECT));
+
+		assertThat(result.isActive()).isFalse();
+		assertThat(result.getSubject()).isNull();
+	}
+
+	@Test
+	void malformedTokenIsInactive() {
+		assertThat(introspect("not.a.token").isActive()).isFalse();
+	}
+
+	private TokenIntrospection introspect(String token) {
+		IntrospectRequest request = new IntrospectRequest();
+		request.setTokens(List.of(token));
+		return introspectionService.introspect(request).getResults().get(0);
+	}
+}
@@ -0,0 +1,38 @@
+package org.param.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTests {
+
+	@Test
+	void neverReportsInsertedValuesAsMissing() {
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@example.com");
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@example.com");
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain("absent" + i + "@example.org")) {
+				falsePositives++;
+			}
+		}
+
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+	}
+}
@@ -0,0 +1,58 @@
+package org.param.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class SecureRandomPoolTests {
+
+	@Test
+	void numericOtpHasRequestedDigitsOnly() {
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(SecureRandomPool.numericOtp(6)).hasSize(6).containsOnlyDigits();
+		}
+	}
+
+	@Test
+	void numericOtpDigitsAreRoughlyUniform() {
+		int[] counts = new int[10];
+		for (int i = 0; i < 10_000; i++) {
+			for (char c : SecureRandomPool.numericOtp(6).toCharArray()) {
+				counts[c - '0']++;
+			}
+		}
+
+		// 6,000 expected per digit; a biased modulo would skew the low digits well past this band
+		for (int count : counts) {
+			assertThat(count).isBetween(5_400, 6_600);
+		}
+	}
+
+	@Test
+	void tokensAreUrlSafeAndDistinct() {
+		Set<String> seen = new HashSet<>();
+		for (int i = 0; i < 1_000; i++) {
+			String token = SecureRandomPool.opaqueToken(32);
+			assertThat(token).hasSize(43).matches("[A-Za-z0-9_-]+");
+			assertThat(seen.add(token)).isTrue();
+		}
+		assertThat(SecureRandomPool.jwtId()).hasSize(22);
+	}
+
+	@Test
+	void nextBytesSpansBufferRefills() {
+		byte[] bytes = new byte[2_000];
+		SecureRandomPool.nextBytes(bytes);
+
+		int zeros = 0;
+		for (byte b : bytes) {
+			if (b == 0) {
+				zeros++;
+			}
+		}
+		assertThat(zeros).isLessThan(40);
+	}
+}
@@ -0,0 +1,153 @@
+package org.param.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTests {
+
+	private static final int THREADS = 32;
+	private static final int ATTEMPTS_PER_THREAD = 2_000;
+
+	private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+	private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void grantsExactlyCapacityUnderContention() throws Exception {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 60, 1_000, 8, clock::get);
+
+		long granted = hammer(() -> limiter.tryAcquire("10.0.0.1") == 0 ? 1 : 0);
+
+		assertThat(granted).isEqualTo(50);
+		assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+	}
+
+	@Test
+	void refillsAtConfiguredRate() {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 60, 1_000, 8, clock::get);
+		limiter.tryAcquire("user@example.com");
+		limiter.tryAcquire("user@example.com");
+
+		long wait = limiter.tryAcquire("user@example.com");
+		assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+		clock.addAndGet(wait);
+		assertThat(limiter.tryAcquire("user@example.com")).isZero();
+		assertThat(limiter.tryAcquire("user@example.com")).isPositive();
+	}
+
+	@Test
+	void waitTimeLooksWithoutTakingATokenOrTrackingTheKey() {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 60, 1_000, 8, clock::get);
+
+		assertThat(limiter.waitTime("user@example.com")).isZero();
+		assertThat(limiter.size()).isZero();
+
+		limiter.tryAcquire("user@example.com");
+		assertThat(limiter.waitTime("user@example.com")).isZero();
+		assertThat(limiter.waitTime("user@example.com")).isZero();
+
+		limiter.tryAcquire("user@example.com");
+		assertThat(limiter.waitTime("user@example.com")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	void takesWeightedRequestsAllOrNothing() {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 600, 1_000, 8, clock::get);
+
+		assertThat(limiter.tryAcquire("10.0.0.2", 60)).isZero();
+		long wait = limiter.tryAcquire("10.0.0.2", 60);
+		assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(2_000));
+
+		// The rejected request took nothing
+		assertThat(limiter.tryAcquire("10.0.0.2", 40)).isZero();
+	}
+
+	@Test
+	void staysBoundedUnderDistinctKeyFlood() throws Exception {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 60, 1_024, 16, clock::get);
+		AtomicLong sequence = new AtomicLong();
+
+		long granted = hammer(() -> limiter.tryAcquire("key-" + sequence.incrementAndGet()) == 0 ? 1 : 0);
+
+		// Every key is new, so each request is granted from a fresh bucket that displaced an older one
+		assertThat(granted).isEqualTo((long) THREADS * ATTEMPTS_PER_THREAD);
+		// Inserts racing past the size check may overshoot by one per thread
+		assertThat(limiter.size()).isLessThanOrEqualTo(1_024 + THREADS);
+		assertThat(limiter.evictionCount()).isPositive();
+	}
+
+	@Test
+	void keepsDrainedBucketsThroughAKeyFlood() {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 60, 8, 1, clock::get);
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("victim@example.com");
+		}
+
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(limiter.tryAcquire("throwaway-" + i + "@example.com")).isZero();
+		}
+
+		assertThat(limiter.tryAcquire("victim@example.com")).isPositive();
+		assertThat(limiter.size()).isLessThanOrEqualTo(8);
+	}
+
+	@Test
+	void evictsOnlyRefilledBuckets() {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 60, 1_000, 4, clock::get);
+		limiter.tryAcquire("busy");
+		limiter.tryAcquire("busy");
+		limiter.tryAcquire("idle");
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		limiter.evictIdle();
+		assertThat(limiter.size()).isEqualTo(1);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		limiter.evictIdle();
+		assertThat(limiter.size()).isZero();
+	}
+
+	private long hammer(AttemptCounter attempt) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Long>> results = new ArrayList<>();
+
+		for (int i = 0; i < THREADS; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				long granted = 0;
+				for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+					granted += attempt.run();
+				}
+				return granted;
+			}));
+		}
+		start.countDown();
+
+		long granted = 0;
+		for (Future<Long> result : results) {
+			granted += result.get(30, TimeUnit.SECONDS);
+		}
+		return granted;
+	}
+
+	@FunctionalInterface
+	private interface AttemptCounter {
+		long run();
+	}
+}